@@ -0,0 +1,43 @@
+// 조회 API p99 지연 비교용 부하 테스트
+// 1. 서블릿(기본):  java -jar ./build/libs/assignment-0.0.1-SNAPSHOT.jar
+//    리액티브:      java -jar ./build/libs/assignment-0.0.1-SNAPSHOT.jar --spring.main.web-application-type=reactive
+// 2. k6 run -e BASE_URL=http://localhost:8080 -e VUS=50000 k6/read-latency.js
+// 5만 동시 연결은 부하 생성기/서버 모두 ulimit -n 과 로컬 포트 범위를 늘려야 한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+const PATHS = [
+  '/v1/products/categories-min-prices',
+  '/v1/products/brand-min-prices',
+  `/v1/products/category-min-max-prices?category=${encodeURIComponent('바지')}`,
+  '/v1/products/summary',
+];
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: __ENV.RAMP_UP || '1m', target: parseInt(__ENV.VUS || '50000') },
+        { duration: __ENV.DURATION || '3m', target: parseInt(__ENV.VUS || '50000') },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const path = PATHS[Math.floor(Math.random() * PATHS.length)];
+  const response = http.get(`${BASE_URL}${path}`, {
+    headers: { 'Accept-Encoding': 'gzip' },
+    tags: { name: path.split('?')[0] },
+  });
+
+  check(response, {
+    'status is 200': (r) => r.status === 200,
+  });
+}
@@ -0,0 +1,97 @@
+package com.musinsa.assignment.common.web;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import com.musinsa.assignment.common.support.Status;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ./gradlew jmh -PjmhIncludes=ApiResponseBenchmark
+// gc 프로파일러 결과의 gc.alloc.rate.norm (B/op) 로 요청당 할당량을 비교한다.
+// legacy* 는 ZonedDateTime.now() + 리플렉션 기반 필드 직렬화를 쓰던 이전 방식이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApiResponseBenchmark {
+    private final ObjectMapper objectMapper = new CustomObjectMapper();
+    private final ObjectMapper legacyObjectMapper = legacyObjectMapper();
+    private final Object data = Map.of(
+        "최저가", List.of(
+            Map.of("카테고리", "상의", "브랜드", "C", "가격", "10,000"),
+            Map.of("카테고리", "아우터", "브랜드", "E", "가격", "5,000")
+        ),
+        "총액", "15,000"
+    );
+
+    @Benchmark
+    public ApiResponse<Object> construct() {
+        return ApiResponse.success(data);
+    }
+
+    @Benchmark
+    public LegacyApiResponse legacyConstruct() {
+        return new LegacyApiResponse(Status.SUCCESS, Status.SUCCESS.message(), data);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(data));
+    }
+
+    @Benchmark
+    public byte[] legacySerialize() throws JsonProcessingException {
+        return legacyObjectMapper.writeValueAsBytes(
+            new LegacyApiResponse(Status.SUCCESS, Status.SUCCESS.message(), data)
+        );
+    }
+
+    private static ObjectMapper legacyObjectMapper() {
+        var mapper = new ObjectMapper();
+        mapper.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new SimpleModule().addSerializer(
+            ZonedDateTime.class,
+            new ZonedDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ"))
+        ));
+        return mapper;
+    }
+
+    public static class LegacyApiResponse {
+        private final Status status;
+        private final String message;
+        private final ZonedDateTime serverDatetime;
+        private final Object data;
+
+        LegacyApiResponse(Status status, String message, Object data) {
+            this.status = status;
+            this.message = message;
+            this.data = data;
+            this.serverDatetime = ZonedDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.assignment.product.application;
+
+import com.musinsa.assignment.AssignmentApplication;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// ./gradlew jmh -PjmhIncludes=BrandWriteLocksBenchmark
+// 동시 요청 16개가 brands 개 브랜드의 상품 가격을 수정할 때의 처리량. stripes=1 은 전역 락과 같다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(16)
+public class BrandWriteLocksBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int brands;
+
+    @Param({"1", "1024"})
+    private int stripes;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AssignmentApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "application.runner.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL",
+                "spring.datasource.hikari.maximum-pool-size=16",
+                "application.brand-lock.stripes=" + stripes,
+                "logging.level.root=warn"
+            )
+            .run();
+        productService = context.getBean(ProductService.class);
+
+        // 브랜드/카테고리 별 상품이 2개씩 있어야 수정할 수 있다. (checkIfCategoryEmpty)
+        products = new ArrayList<>();
+        for (var i = 0; i < brands; i++) {
+            var brandId = productService.addBrand(
+                new AddBrandDto(
+                    "B" + i,
+                    Arrays.stream(Category.values())
+                        .map(category -> new AddBrandDto.Product(category, 10000))
+                        .collect(Collectors.toList())
+                )
+            );
+            for (var category : Category.values()) {
+                var productId = productService.addProduct(new AddProductDto(brandId, category, 20000));
+                products.add(new Product(productId, brandId, category, 20000));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void updatePrice() {
+        var random = ThreadLocalRandom.current();
+        var product = products.get(random.nextInt(products.size()));
+        productService.updateProduct(
+            product.getId(),
+            new UpdateProductDto(product.getBrandId(), product.getCategory(), 1000 + random.nextInt(100000))
+        );
+    }
+}
@@ -0,0 +1,118 @@
+package com.musinsa.assignment.product.application;
+
+import com.musinsa.assignment.AssignmentApplication;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// ./gradlew jmh -PjmhIncludes=ProductWritePipelineBenchmark
+// 동시 요청 32개가 상품 가격을 수정할 때 요청 별 커밋과 그룹 커밋의 처리량을 비교한다.
+// 메모리 DB 는 커밋 비용이 거의 없어 그룹 커밋의 효과가 드러나지 않으므로, 커밋마다 파일에 쓰는 파일 DB(WRITE_DELAY=0)로 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Threads(32)
+public class ProductWritePipelineBenchmark {
+    private static final int BRAND_COUNT = 100;
+
+    @Param({"false", "true"})
+    private boolean groupCommit;
+
+    @Param({"64"})
+    private int maxBatchSize;
+
+    @Param({"200", "1000"})
+    private long maxWaitMicros;
+
+    private Path databaseDir;
+    private ConfigurableApplicationContext context;
+    private ProductWritePipeline productWritePipeline;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseDir = Files.createTempDirectory("write-pipeline-bench");
+        context = new SpringApplicationBuilder(AssignmentApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "application.runner.enabled=false",
+                "spring.datasource.url=jdbc:h2:file:" + databaseDir.resolve("bench").toAbsolutePath() + ";MODE=MySQL;WRITE_DELAY=0",
+                "spring.sql.init.mode=always",
+                "spring.datasource.hikari.maximum-pool-size=32",
+                "application.group-commit.enabled=" + groupCommit,
+                "application.group-commit.max-batch-size=" + maxBatchSize,
+                "application.group-commit.max-wait-micros=" + maxWaitMicros,
+                "logging.level.root=warn"
+            )
+            .run();
+        productWritePipeline = context.getBean(ProductWritePipeline.class);
+
+        // 브랜드/카테고리 별 상품이 2개씩 있어야 수정할 수 있다. (checkIfCategoryEmpty)
+        var productService = context.getBean(ProductService.class);
+        products = new ArrayList<>();
+        for (var i = 0; i < BRAND_COUNT; i++) {
+            var brandId = productService.addBrand(
+                new AddBrandDto(
+                    "B" + i,
+                    Arrays.stream(Category.values())
+                        .map(category -> new AddBrandDto.Product(category, 10000))
+                        .collect(Collectors.toList())
+                )
+            );
+            for (var category : Category.values()) {
+                var productId = productService.addProduct(new AddProductDto(brandId, category, 20000));
+                products.add(new Product(productId, brandId, category, 20000));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(databaseDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void updatePrice() {
+        var random = ThreadLocalRandom.current();
+        var product = products.get(random.nextInt(products.size()));
+        productWritePipeline.updateProduct(
+            product.getId(),
+            new UpdateProductDto(product.getBrandId(), product.getCategory(), 1000 + random.nextInt(100000))
+        ).join();
+    }
+}
@@ -0,0 +1,111 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import com.musinsa.assignment.product.infra.ColumnarProductCatalog;
+import com.musinsa.assignment.product.infra.ProductJdbcRepository;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.h2.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+// ./gradlew jmh -PjmhIncludes=AggregateEngineBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AggregateEngineBenchmark {
+    private static final int BRAND_COUNT = 1000;
+
+    @Param({"1000000", "10000000"})
+    private int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private AggregateEngine jdbcEngine;
+    private AggregateEngine sequentialCatalogEngine;
+    private AggregateEngine parallelCatalogEngine;
+    private ForkJoinPool singleThreadPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL",
+            "sa",
+            "",
+            true
+        );
+        dataSource.setDriverClassName(Driver.class.getName());
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+
+        var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute(
+            "INSERT INTO brand (name) SELECT CONCAT('B', X) FROM SYSTEM_RANGE(1, " + BRAND_COUNT + ")"
+        );
+        jdbcTemplate.getJdbcTemplate().execute(
+            """
+            INSERT INTO product (brand_id, category, price)
+            SELECT
+                MOD(X, %d) + 1,
+                CASE MOD(X, 8)
+                    WHEN 0 THEN 'TOP'
+                    WHEN 1 THEN 'OUTER'
+                    WHEN 2 THEN 'PANTS'
+                    WHEN 3 THEN 'SHOES'
+                    WHEN 4 THEN 'BAG'
+                    WHEN 5 THEN 'HAT'
+                    WHEN 6 THEN 'SOCKS'
+                    ELSE 'ACCESSORY'
+                END,
+                1000 + MOD(X * 7919, 100000)
+            FROM SYSTEM_RANGE(1, %d)
+            """.formatted(BRAND_COUNT, rows)
+        );
+
+        var productRepository = new ProductJdbcRepository(jdbcTemplate);
+        var catalog = new ColumnarProductCatalog(rows);
+        productRepository.findAll(catalog::put);
+
+        singleThreadPool = new ForkJoinPool(1);
+        jdbcEngine = new JdbcAggregateEngine(productRepository);
+        sequentialCatalogEngine = new CatalogAggregateEngine(catalog, singleThreadPool);
+        parallelCatalogEngine = new CatalogAggregateEngine(catalog);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        singleThreadPool.shutdown();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public ProductAggregates jdbcThreeQueries() {
+        return jdbcEngine.compute();
+    }
+
+    @Benchmark
+    public ProductAggregates catalogSingleThread() {
+        return sequentialCatalogEngine.compute();
+    }
+
+    @Benchmark
+    public ProductAggregates catalogForkJoin() {
+        return parallelCatalogEngine.compute();
+    }
+}
@@ -0,0 +1,118 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.h2.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+// ./gradlew jmh -PjmhIncludes=ProductAggregateQueryBenchmark
+// 상품 하나가 바뀌었을 때 다시 계산하는 비용. legacy* 는 모든 카테고리/브랜드를 GROUP BY 로 계산하는 기존 쿼리다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ProductAggregateQueryBenchmark {
+    private static final int BRAND_COUNT = 1000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private SingleConnectionDataSource dataSource;
+    private ProductJdbcRepository productRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL",
+            "sa",
+            "",
+            true
+        );
+        dataSource.setDriverClassName(Driver.class.getName());
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+
+        var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute(
+            "INSERT INTO brand (name) SELECT CONCAT('B', X) FROM SYSTEM_RANGE(1, " + BRAND_COUNT + ")"
+        );
+        jdbcTemplate.getJdbcTemplate().execute(
+            """
+            INSERT INTO product (brand_id, category, price)
+            SELECT
+                MOD(X, %d) + 1,
+                CASE MOD(X, 8)
+                    WHEN 0 THEN 'TOP'
+                    WHEN 1 THEN 'OUTER'
+                    WHEN 2 THEN 'PANTS'
+                    WHEN 3 THEN 'SHOES'
+                    WHEN 4 THEN 'BAG'
+                    WHEN 5 THEN 'HAT'
+                    WHEN 6 THEN 'SOCKS'
+                    ELSE 'ACCESSORY'
+                END,
+                1000 + MOD(X * 7919, 100000)
+            FROM SYSTEM_RANGE(1, %d)
+            """.formatted(BRAND_COUNT, rows)
+        );
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE");
+
+        productRepository = new ProductJdbcRepository(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Optional<Product> minPriceProduct() {
+        return productRepository.findMinPriceProduct(Category.SHOES);
+    }
+
+    @Benchmark
+    public List<Product> legacyMinPriceProducts() {
+        return productRepository.findMinPriceProductsByCategory();
+    }
+
+    @Benchmark
+    public Optional<Product> maxPriceProduct() {
+        return productRepository.findMaxPriceProduct(Category.SHOES);
+    }
+
+    @Benchmark
+    public List<Product> legacyMaxPriceProducts() {
+        return productRepository.findMaxPriceProductsByCategory();
+    }
+
+    @Benchmark
+    public List<Product> brandCategoryMinimums() {
+        return productRepository.findBrandCategoryMinimums(500L);
+    }
+
+    @Benchmark
+    public List<Product> legacyBrandMinPrice() {
+        return productRepository.findAllByBrandMinPrice();
+    }
+}
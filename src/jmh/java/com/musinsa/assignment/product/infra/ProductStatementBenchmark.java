@@ -0,0 +1,161 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.h2.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+// ./gradlew jmh -PjmhIncludes=ProductStatementBenchmark
+// 자주 호출되는 단건 문장의 호출 비용. legacy* 는 호출마다 Map.of/named SQL 치환/RowMapper 를 새로 만들던 이전 구현이다.
+// queryCacheSize 는 H2 세션의 컴파일된 쿼리 캐시 크기(QUERY_CACHE_SIZE, 기본 8)다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProductStatementBenchmark {
+    private static final int BRAND_COUNT = 100;
+    private static final int ROWS = 10_000;
+
+    @Param({"8", "64"})
+    private int queryCacheSize;
+
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private ProductJdbcRepository productRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;QUERY_CACHE_SIZE=" + queryCacheSize,
+            "sa",
+            "",
+            true
+        );
+        dataSource.setDriverClassName(Driver.class.getName());
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute(
+            "INSERT INTO brand (name) SELECT CONCAT('B', X) FROM SYSTEM_RANGE(1, " + BRAND_COUNT + ")"
+        );
+        jdbcTemplate.getJdbcTemplate().execute(
+            """
+            INSERT INTO product (brand_id, category, price)
+            SELECT
+                MOD(X, %d) + 1,
+                CASE MOD(X, 8)
+                    WHEN 0 THEN 'TOP'
+                    WHEN 1 THEN 'OUTER'
+                    WHEN 2 THEN 'PANTS'
+                    WHEN 3 THEN 'SHOES'
+                    WHEN 4 THEN 'BAG'
+                    WHEN 5 THEN 'HAT'
+                    WHEN 6 THEN 'SOCKS'
+                    ELSE 'ACCESSORY'
+                END,
+                1000 + MOD(X * 7919, 100000)
+            FROM SYSTEM_RANGE(1, %d)
+            """.formatted(BRAND_COUNT, ROWS)
+        );
+
+        productRepository = new ProductJdbcRepository(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        return productRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public Optional<Product> legacyFindById() {
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(
+                """
+                    SELECT id, brand_id, category, price
+                    FROM product
+                    WHERE id = :id
+                    """,
+                Map.of(
+                    "id", randomId()
+                ),
+                new LegacyProductRowMapper()
+            ));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public Integer countByBrandAndCategory() {
+        return productRepository.countByBrandAndCategory(randomBrandId(), Category.SHOES);
+    }
+
+    @Benchmark
+    public Integer legacyCountByBrandAndCategory() {
+        return jdbcTemplate.queryForObject(
+        """
+            SELECT COUNT(*)
+            FROM product
+            WHERE brand_id = :brandId
+            AND category = :category
+            """,
+            Map.of(
+                "brandId", randomBrandId(),
+                "category", Category.SHOES.name()
+            ),
+            Integer.class
+        );
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, ROWS + 1);
+    }
+
+    private long randomBrandId() {
+        return ThreadLocalRandom.current().nextLong(1, BRAND_COUNT + 1);
+    }
+
+    private static class LegacyProductRowMapper implements RowMapper<Product> {
+        @Override
+        public Product mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Product(
+                rs.getLong("id"),
+                rs.getLong("brand_id"),
+                Category.valueOf(rs.getString("category")),
+                rs.getInt("price")
+            );
+        }
+    }
+}
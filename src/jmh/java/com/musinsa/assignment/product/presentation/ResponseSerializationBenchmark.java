@@ -0,0 +1,103 @@
+package com.musinsa.assignment.product.presentation;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import com.musinsa.assignment.product.presentation.ProductController.BrandMinPricesResponse;
+import com.musinsa.assignment.product.presentation.ProductController.CategoriesMinPricesResponse;
+import com.musinsa.assignment.product.presentation.ProductController.CategoryMinMaxPricesResponse;
+import com.musinsa.assignment.product.presentation.ProductController.PresentationProduct;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ./gradlew jmh -PjmhIncludes=ResponseSerializationBenchmark
+// legacy* 는 Blackbird 없이 리플렉션으로 record 를 직렬화하던 이전 ObjectMapper 설정이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseSerializationBenchmark {
+    private final ObjectWriter writer = new CustomObjectMapper().writer();
+    private final ObjectWriter legacyWriter = legacyObjectMapper().writer();
+
+    private final CategoriesMinPricesResponse categoriesMinPrices = new CategoriesMinPricesResponse(
+        34_100,
+        List.of(
+            new PresentationProduct("상의", "C", 10_000),
+            new PresentationProduct("아우터", "E", 5_000),
+            new PresentationProduct("바지", "D", 3_000),
+            new PresentationProduct("스니커즈", "G", 9_000),
+            new PresentationProduct("가방", "A", 2_000),
+            new PresentationProduct("모자", "D", 1_500),
+            new PresentationProduct("양말", "I", 1_700),
+            new PresentationProduct("액세서리", "F", 1_900)
+        )
+    );
+    private final BrandMinPricesResponse brandMinPrices = new BrandMinPricesResponse(
+        36_100,
+        categoriesMinPrices.products(),
+        "D"
+    );
+    private final CategoryMinMaxPricesResponse categoryMinMaxPrices = new CategoryMinMaxPricesResponse(
+        "상의",
+        List.of(new PresentationProduct(null, "C", 10_000)),
+        List.of(new PresentationProduct(null, "I", 11_400))
+    );
+
+    @Benchmark
+    public byte[] categoriesMinPrices() throws JsonProcessingException {
+        return writer.writeValueAsBytes(categoriesMinPrices);
+    }
+
+    @Benchmark
+    public byte[] legacyCategoriesMinPrices() throws JsonProcessingException {
+        return legacyWriter.writeValueAsBytes(categoriesMinPrices);
+    }
+
+    @Benchmark
+    public byte[] brandMinPrices() throws JsonProcessingException {
+        return writer.writeValueAsBytes(brandMinPrices);
+    }
+
+    @Benchmark
+    public byte[] legacyBrandMinPrices() throws JsonProcessingException {
+        return legacyWriter.writeValueAsBytes(brandMinPrices);
+    }
+
+    @Benchmark
+    public byte[] categoryMinMaxPrices() throws JsonProcessingException {
+        return writer.writeValueAsBytes(categoryMinMaxPrices);
+    }
+
+    @Benchmark
+    public byte[] legacyCategoryMinMaxPrices() throws JsonProcessingException {
+        return legacyWriter.writeValueAsBytes(categoryMinMaxPrices);
+    }
+
+    private static ObjectMapper legacyObjectMapper() {
+        var mapper = new ObjectMapper();
+        mapper.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.registerModules(new JavaTimeModule(), new Jdk8Module());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+}
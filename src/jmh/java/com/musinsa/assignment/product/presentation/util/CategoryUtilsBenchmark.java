@@ -0,0 +1,89 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ./gradlew jmh -PjmhIncludes=CategoryUtilsBenchmark
+// legacy* 는 선형 탐색/containsAll 을 쓰던 이전 구현을 그대로 옮긴 비교 대상이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CategoryUtilsBenchmark {
+    private String lastCategory = "액세서리";
+    private List<String> allCategories = List.of(
+        "상의", "아우터", "바지", "스니커즈", "가방", "모자", "양말", "액세서리"
+    );
+
+    @Benchmark
+    public Category convertFromString() {
+        return CategoryUtils.convertFrom(lastCategory);
+    }
+
+    @Benchmark
+    public Category legacyConvertFromString() {
+        return Category.valueOf(LegacyCategory.from(lastCategory).name());
+    }
+
+    @Benchmark
+    public String convertFromCategory() {
+        return CategoryUtils.convertFrom(Category.ACCESSORY);
+    }
+
+    @Benchmark
+    public String legacyConvertFromCategory() {
+        return LegacyCategory.valueOf(Category.ACCESSORY.name()).description;
+    }
+
+    @Benchmark
+    public boolean hasAllCategories() {
+        return CategoryUtils.hasAllCategories(allCategories);
+    }
+
+    @Benchmark
+    public boolean legacyHasAllCategories() {
+        return allCategories.stream()
+            .map(LegacyCategory::from)
+            .collect(Collectors.toList())
+            .containsAll(List.of(LegacyCategory.values()));
+    }
+
+    private enum LegacyCategory {
+        TOP("상의"),
+        OUTER("아우터"),
+        PANTS("바지"),
+        SHOES("스니커즈"),
+        BAG("가방"),
+        HAT("모자"),
+        SOCKS("양말"),
+        ACCESSORY("액세서리"),
+        ;
+
+        private final String description;
+
+        LegacyCategory(String description) {
+            this.description = description;
+        }
+
+        static LegacyCategory from(String description) {
+            return Arrays.stream(values())
+                .filter(category -> category.description.equals(description))
+                .findFirst()
+                .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.musinsa.assignment.common.support;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+// 응답마다 ZonedDateTime.now() 와 포맷팅을 반복하지 않도록 1ms 단위로 현재 시각과 그 문자열을 재사용한다.
+public final class CoarseClock {
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ");
+
+    private static volatile Tick tick = new Tick(System.currentTimeMillis());
+
+    private CoarseClock() {
+    }
+
+    public static ZonedDateTime now() {
+        return current().dateTime();
+    }
+
+    public static String formattedNow() {
+        return current().formatted();
+    }
+
+    public static String format(ZonedDateTime dateTime) {
+        var current = tick;
+        if (current.dateTime() == dateTime) {
+            return current.formatted();
+        }
+        return FORMATTER.format(dateTime.withZoneSameInstant(ZONE));
+    }
+
+    private static Tick current() {
+        var millis = System.currentTimeMillis();
+        var current = tick;
+        if (current.millis() != millis) {
+            current = new Tick(millis);
+            tick = current;
+        }
+        return current;
+    }
+
+    private record Tick(
+        long millis,
+        ZonedDateTime dateTime,
+        String formatted
+    ) {
+        Tick(long millis) {
+            this(millis, ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE));
+        }
+
+        Tick(long millis, ZonedDateTime dateTime) {
+            this(millis, dateTime, FORMATTER.format(dateTime));
+        }
+    }
+}
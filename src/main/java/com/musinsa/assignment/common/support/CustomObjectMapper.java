@@ -6,12 +6,16 @@ import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DURATION
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.musinsa.assignment.common.web.ApiResponse;
+import com.musinsa.assignment.common.web.ApiResponseSerializer;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -19,6 +23,11 @@ import java.util.TimeZone;
 
 public class CustomObjectMapper extends ObjectMapper {
     public CustomObjectMapper() {
+        this(null);
+    }
+
+    public CustomObjectMapper(JsonFactory factory) {
+        super(factory);
         setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
         setVisibility(
             PropertyAccessor.FIELD,
@@ -27,6 +36,7 @@ public class CustomObjectMapper extends ObjectMapper {
         registerModules(
             new JavaTimeModule(),
             new Jdk8Module(),
+            new BlackbirdModule(),
             new CustomModule()
         );
         disable(
@@ -49,9 +59,13 @@ public class CustomObjectMapper extends ObjectMapper {
             addSerializer(
                 ZonedDateTime.class,
                 new ZonedDateTimeSerializer(
-                    DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ")
+                    CoarseClock.FORMATTER
                 )
             );
+            addSerializer(
+                ApiResponse.class,
+                new ApiResponseSerializer()
+            );
         }
     }
 }
@@ -4,6 +4,7 @@ public enum Status {
     SUCCESS("성공"),
     ERROR("에러"),
     INVALID_PARAMETER("파라미터가 올바르지 않습니다."),
+    INVALID_CURSOR("커서가 올바르지 않습니다."),
 
     BRAND_NOT_FOUND("해당 브랜드를 찾을 수 없습니다."),
     PRODUCT_NOT_FOUND("해당 상품를 찾을 수 없습니다."),
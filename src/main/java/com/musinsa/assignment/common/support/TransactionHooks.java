@@ -0,0 +1,100 @@
+package com.musinsa.assignment.common.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// DB 와 함께 바뀌어야 하는 메모리 상태(카탈로그 등)는 트랜잭션이 커밋된 뒤에 바꾼다.
+// 트랜잭션 밖에서 호출하면 바로 실행한다.
+public final class TransactionHooks {
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private TransactionHooks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        var scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            scope.commitActions.add(action);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 트랜잭션 전에 바꿔 둔 메모리 상태는 커밋되지 않으면 되돌린다. 트랜잭션 밖에서 호출하면 아무것도 하지 않는다.
+    public static void afterRollback(Runnable action) {
+        var scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            scope.rollbackActions.add(action);
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    // 세이브포인트처럼 트랜잭션의 일부만 롤백될 수 있는 구간에서 work 를 실행한다.
+    // work 가 실패하면 그 안에서 등록한 afterCommit 은 버리고 afterRollback 은 나중에 등록한 것부터 바로 실행한다.
+    // 성공하면 둘 다 바깥 구간(없으면 트랜잭션)에 넘긴다.
+    public static <T> T partial(Supplier<T> work) {
+        var scope = new Scope(CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+
+        T result;
+        try {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            scope.close();
+            for (var i = scope.rollbackActions.size() - 1; i >= 0; i--) {
+                scope.rollbackActions.get(i).run();
+            }
+            throw e;
+        }
+
+        scope.close();
+        scope.commitActions.forEach(TransactionHooks::afterCommit);
+        scope.rollbackActions.forEach(TransactionHooks::afterRollback);
+        return result;
+    }
+
+    private static final class Scope {
+        private final Scope parent;
+        private final List<Runnable> commitActions = new ArrayList<>();
+        private final List<Runnable> rollbackActions = new ArrayList<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void close() {
+            if (parent == null) {
+                CURRENT_SCOPE.remove();
+            } else {
+                CURRENT_SCOPE.set(parent);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.musinsa.assignment.common.web;
 
+import com.musinsa.assignment.common.support.CoarseClock;
 import com.musinsa.assignment.common.support.Status;
 import java.time.ZonedDateTime;
 
@@ -13,7 +14,23 @@ public class ApiResponse<T> {
         this.status = status;
         this.message = message;
         this.data = data;
-        this.serverDatetime = ZonedDateTime.now();
+        this.serverDatetime = CoarseClock.now();
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public ZonedDateTime serverDatetime() {
+        return serverDatetime;
+    }
+
+    public T data() {
+        return data;
     }
 
     public static ApiResponse<Void> success() {
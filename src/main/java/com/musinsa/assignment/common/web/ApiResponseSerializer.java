@@ -0,0 +1,43 @@
+package com.musinsa.assignment.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.musinsa.assignment.common.support.CoarseClock;
+import java.io.IOException;
+
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString SERVER_DATETIME = new SerializedString("serverDatetime");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(STATUS);
+        gen.writeString(value.status().name());
+
+        gen.writeFieldName(MESSAGE);
+        if (value.message() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value.message());
+        }
+
+        gen.writeFieldName(SERVER_DATETIME);
+        gen.writeString(CoarseClock.format(value.serverDatetime()));
+
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(value.data(), gen);
+
+        gen.writeEndObject();
+    }
+}
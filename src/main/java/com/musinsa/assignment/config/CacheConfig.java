@@ -0,0 +1,63 @@
+package com.musinsa.assignment.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.assignment.product.application.contract.CacheManager;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
+import com.musinsa.assignment.product.infra.CacheNodeServer;
+import com.musinsa.assignment.product.infra.SimpleCacheManager;
+import com.musinsa.assignment.product.infra.TwoTierCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "application.cache",
+        value = "mode",
+        havingValue = "local",
+        matchIfMissing = true
+    )
+    public CacheManager simpleCacheManager() {
+        return new SimpleCacheManager();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(
+        prefix = "application.cache.node",
+        value = "embedded",
+        havingValue = "true"
+    )
+    public CacheNodeServer cacheNodeServer(@Value("${application.cache.node.bind-address:127.0.0.1}") String bindAddress,
+                                           @Value("${application.cache.node.port:7379}") int port,
+                                           @Value("${application.cache.node.max-connections:256}") int maxConnections) {
+        return new CacheNodeServer(bindAddress, port, maxConnections);
+    }
+
+    // 캐시 노드 연결은 첫 요청 시점에 맺고 끊기면 다시 맺으므로 노드보다 먼저 떠도 된다.
+    // 메모리 카탈로그/검색 인덱스는 그 인스턴스의 쓰기만 반영하므로, 그것으로 계산한 통계를 L2 로 공유할 수 없다.
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(
+        prefix = "application.cache",
+        value = "mode",
+        havingValue = "two-tier"
+    )
+    public CacheManager twoTierCacheManager(ObjectMapper objectMapper,
+                                            @Value("${application.cache.node.host:localhost}") String host,
+                                            @Value("${application.cache.node.port:7379}") int port,
+                                            @Value("${application.cache.node.pool-size:4}") int poolSize,
+                                            ObjectProvider<ProductCatalog> productCatalog,
+                                            ObjectProvider<ProductSearchIndex> productSearchIndex) {
+        if (productCatalog.getIfAvailable() != null || productSearchIndex.getIfAvailable() != null) {
+            throw new IllegalStateException(
+                "application.cache.mode=two-tier requires application.catalog.store=jdbc and no application.search.store"
+            );
+        }
+        return new TwoTierCacheManager(objectMapper, host, port, poolSize);
+    }
+}
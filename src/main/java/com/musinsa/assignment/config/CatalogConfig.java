@@ -0,0 +1,58 @@
+package com.musinsa.assignment.config;
+
+import com.musinsa.assignment.product.application.aggregate.AggregateEngine;
+import com.musinsa.assignment.product.application.aggregate.CatalogAggregateEngine;
+import com.musinsa.assignment.product.application.aggregate.JdbcAggregateEngine;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.application.contract.ProductCatalogFactory;
+import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.infra.ColumnarProductCatalog;
+import com.musinsa.assignment.product.infra.OffHeapProductCatalog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CatalogConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "application.catalog",
+        value = "store",
+        havingValue = "heap"
+    )
+    public ProductCatalog columnarProductCatalog(ProductRepository productRepository) {
+        var catalog = new ColumnarProductCatalog();
+        productRepository.findAll(catalog::put);
+        return catalog;
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "application.catalog",
+        value = "store",
+        havingValue = "off-heap"
+    )
+    public ProductCatalog offHeapProductCatalog(ProductRepository productRepository) {
+        var catalog = new OffHeapProductCatalog();
+        productRepository.findAll(catalog::put);
+        return catalog;
+    }
+
+    // 가격 이력 재생처럼 잠깐 쓰고 버리는 카탈로그는 GC 가 회수하도록 힙 카탈로그를 쓴다.
+    @Bean
+    public ProductCatalogFactory productCatalogFactory() {
+        return ColumnarProductCatalog::new;
+    }
+
+    @Bean
+    public AggregateEngine aggregateEngine(ProductRepository productRepository,
+                                           ObjectProvider<ProductCatalog> productCatalog) {
+        var catalog = productCatalog.getIfAvailable();
+        if (catalog == null) {
+            return new JdbcAggregateEngine(productRepository);
+        }
+        return new CatalogAggregateEngine(catalog);
+    }
+}
@@ -0,0 +1,10 @@
+package com.musinsa.assignment.config;
+
+import com.musinsa.assignment.product.infra.ProductJdbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProductJdbcProperties.class)
+public class JdbcConfig {
+}
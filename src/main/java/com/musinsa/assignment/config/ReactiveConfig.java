@@ -0,0 +1,53 @@
+package com.musinsa.assignment.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// spring.main.web-application-type=reactive 로 실행할 때만 적용된다.
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    // 톰캣도 클래스패스에 있으므로 네티를 명시한다.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    // 캐시가 비어 통계를 다시 계산하거나 DB 를 읽는 조회는 이벤트 루프 대신 이 스케쥴러에서 처리한다.
+    @Bean(destroyMethod = "dispose")
+    public Scheduler productReadScheduler(@Value("${application.reactive.read-threads:10}") int threads,
+                                          @Value("${application.reactive.read-queue-size:10000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "product-read");
+    }
+
+    // JDBC 를 쓰는 쓰기 요청은 이벤트 루프 대신 커넥션 풀 크기에 맞춘 스케쥴러에서 처리한다.
+    @Bean(destroyMethod = "dispose")
+    public Scheduler productWriteScheduler(@Value("${application.reactive.write-threads:10}") int threads,
+                                           @Value("${application.reactive.write-queue-size:10000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "product-write");
+    }
+
+    // 서블릿 모드의 WebConfig 와 같이 CBOR/Smile 도 CustomObjectMapper 설정(한글 키, 날짜 포맷, ApiResponse 직렬화)을 따르게 한다.
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jackson2SmileEncoder(
+            new Jackson2SmileEncoder(new CustomObjectMapper(new SmileFactory()))
+        );
+        configurer.customCodecs().register(
+            new Jackson2CborEncoder(new CustomObjectMapper(new CBORFactory()))
+        );
+    }
+}
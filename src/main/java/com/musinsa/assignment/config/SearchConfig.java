@@ -0,0 +1,25 @@
+package com.musinsa.assignment.config;
+
+import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
+import com.musinsa.assignment.product.infra.SortedProductSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+    // 없으면 상품 검색은 DB 의 (category, price, id) 인덱스로 처리한다.
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "application.search",
+        value = "store",
+        havingValue = "heap"
+    )
+    public ProductSearchIndex sortedProductSearchIndex(ProductRepository productRepository) {
+        var searchIndex = new SortedProductSearchIndex();
+        productRepository.findAll(searchIndex::put);
+        return searchIndex;
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.assignment.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+
+    // 기본 등록되는 CBOR/Smile 컨버터는 CustomObjectMapper 설정(한글 키, 날짜 포맷, ApiResponse 직렬화)을 따르지 않으므로 교체한다.
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter ->
+            converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter
+        );
+        converters.add(new MappingJackson2CborHttpMessageConverter(new CustomObjectMapper(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(new CustomObjectMapper(new SmileFactory())));
+    }
+}
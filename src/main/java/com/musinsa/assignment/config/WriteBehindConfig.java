@@ -0,0 +1,33 @@
+package com.musinsa.assignment.config;
+
+import com.musinsa.assignment.product.application.contract.PriceUpdateJournal;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.infra.FilePriceUpdateJournal;
+import java.nio.file.Path;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(
+    prefix = "application.write-behind",
+    value = "enabled",
+    havingValue = "true"
+)
+public class WriteBehindConfig {
+
+    // 대기 중인 가격은 DB 에 반영되기 전까지 메모리 카탈로그에만 있다.
+    // 통계를 DB 로 계산하면(application.catalog.store=jdbc) 응답한 가격이 flush 전까지 보이지 않으므로 함께 쓸 수 없다.
+    @Bean(destroyMethod = "close")
+    public PriceUpdateJournal priceUpdateJournal(@Value("${application.write-behind.journal-dir:./data/journal}") String journalDir,
+                                                 ObjectProvider<ProductCatalog> productCatalog) {
+        if (productCatalog.getIfAvailable() == null) {
+            throw new IllegalStateException(
+                "application.write-behind.enabled requires application.catalog.store=heap or off-heap"
+            );
+        }
+        return new FilePriceUpdateJournal(Path.of(journalDir));
+    }
+}
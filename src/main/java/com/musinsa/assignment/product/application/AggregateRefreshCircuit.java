@@ -0,0 +1,41 @@
+package com.musinsa.assignment.product.application;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+// 통계 재계산이 타임아웃되면 그 키는 open-duration 동안 재계산하지 않고 바로 실패시킨다.
+// 실패하면 캐시가 무효화 전 값을 내주므로, 느린 쿼리가 반복해서 커넥션을 붙잡지 않는다.
+@Slf4j
+@Component
+public class AggregateRefreshCircuit {
+    private final long openNanos;
+    private final Map<String, Long> openUntil = new ConcurrentHashMap<>();
+
+    public AggregateRefreshCircuit(@Value("${application.aggregate.circuit-open-duration:PT30S}") Duration openDuration) {
+        this.openNanos = openDuration.toNanos();
+    }
+
+    public <T> T call(String key, Supplier<T> refresh) {
+        var until = openUntil.get(key);
+        if (until != null) {
+            if (System.nanoTime() - until < 0) {
+                throw new QueryTimeoutException("aggregate refresh circuit is open. key = " + key);
+            }
+            openUntil.remove(key, until);
+        }
+
+        try {
+            return refresh.get();
+        } catch (QueryTimeoutException e) {
+            log.warn("aggregate refresh timed out. key = {}, circuit opens for {}ms", key, openNanos / 1_000_000);
+            openUntil.put(key, System.nanoTime() + openNanos);
+            throw e;
+        }
+    }
+}
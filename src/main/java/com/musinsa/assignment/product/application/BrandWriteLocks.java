@@ -0,0 +1,63 @@
+package com.musinsa.assignment.product.application;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 브랜드 별로 쓰기를 직렬화하는 스트라이프 락. 스트라이프가 겹치지 않는 브랜드끼리는 병렬로 쓴다.
+// 인스턴스 안에서만 유효하다.
+// 그룹 커밋은 여러 요청을 한 트랜잭션으로 커밋하므로 요청마다 잡은 브랜드 락이 커밋 전에 풀린다.
+// 그래서 그룹은 exclusively 로 커밋될 때까지 다른 스레드의 브랜드 쓰기를 모두 막는다.
+@Component
+public class BrandWriteLocks {
+    private final ReentrantLock[] stripes;
+    private final ReentrantReadWriteLock groupLock = new ReentrantReadWriteLock();
+
+    public BrandWriteLocks(@Value("${application.brand-lock.stripes:1024}") int stripes) {
+        this.stripes = new ReentrantLock[stripes];
+        for (var i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLocks(Collection<Long> brandIds, Supplier<T> work) {
+        // 교착을 막기 위해 항상 스트라이프 번호 순서로 잡는다.
+        var indexes = brandIds.stream()
+            .mapToInt(this::indexOf)
+            .distinct()
+            .sorted()
+            .toArray();
+
+        var locked = 0;
+        groupLock.readLock().lock();
+        try {
+            for (var index : indexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            return work.get();
+        } finally {
+            for (var i = locked - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+            groupLock.readLock().unlock();
+        }
+    }
+
+    // work 가 끝날 때까지 다른 스레드는 어떤 브랜드에도 쓰지 못한다. 같은 스레드의 withLocks 는 그대로 잡힌다.
+    public <T> T exclusively(Supplier<T> work) {
+        groupLock.writeLock().lock();
+        try {
+            return work.get();
+        } finally {
+            groupLock.writeLock().unlock();
+        }
+    }
+
+    private int indexOf(Long brandId) {
+        return Math.floorMod(Long.hashCode(brandId), stripes.length);
+    }
+}
@@ -0,0 +1,170 @@
+package com.musinsa.assignment.product.application;
+
+import com.musinsa.assignment.product.application.aggregate.CatalogAggregateEngine;
+import com.musinsa.assignment.product.application.aggregate.ProductAggregates;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository.ChangeType;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository.PriceChange;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository.Snapshot;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.application.contract.ProductCatalogFactory;
+import com.musinsa.assignment.product.domain.Product;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 상품 가격 변경 이력을 append-only 로 남기고, 특정 시점의 통계를 스냅샷 + 이후 이력 재생으로 계산한다.
+// 재생 구간이 스냅샷 주기 이내로 제한되므로 조회 시간은 상품 수 + 한 주기의 변경 수에 비례한다.
+// changed_at 은 커밋 전에 정해지므로 스냅샷 이후에 커밋된 이력은 changed_at 이 스냅샷보다 이를 수 있다.
+// 그래서 스냅샷은 시각이 아니라 자신이 반영한 이력 행(snapshot_id)으로 경계를 기록하고,
+// 재생할 때는 스냅샷에 반영되지 않은 이력을 late-commit-window 만큼 스냅샷 이전까지 거슬러 올라가 함께 적용한다.
+@Slf4j
+@Service
+public class PriceHistoryService {
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final ProductCatalogFactory productCatalogFactory;
+    private final Clock clock;
+    private final Duration lateCommitWindow;
+
+    public PriceHistoryService(PriceHistoryRepository priceHistoryRepository,
+                               ProductCatalogFactory productCatalogFactory,
+                               Clock clock,
+                               @Value("${application.price-history.late-commit-window:PT1M}") Duration lateCommitWindow) {
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.productCatalogFactory = productCatalogFactory;
+        this.clock = clock;
+        this.lateCommitWindow = lateCommitWindow;
+    }
+
+    public void recordSaved(List<Product> products) {
+        var changedAt = LocalDateTime.now(clock);
+        priceHistoryRepository.appendAll(
+            products.stream()
+                .map(product -> new PriceChange(
+                    product.getId(),
+                    product.getBrandId(),
+                    product.getCategory(),
+                    product.getPrice(),
+                    ChangeType.SAVED,
+                    changedAt
+                ))
+                .collect(Collectors.toList())
+        );
+    }
+
+    public void recordUpdated(int previousPrice, Product product) {
+        priceHistoryRepository.appendAll(List.of(
+            new PriceChange(
+                product.getId(),
+                product.getBrandId(),
+                product.getCategory(),
+                product.getPrice() - previousPrice,
+                ChangeType.UPDATED,
+                LocalDateTime.now(clock)
+            )
+        ));
+    }
+
+    public void recordUpdated(Map<Long, Integer> previousPrices, List<Product> products) {
+        var changedAt = LocalDateTime.now(clock);
+        priceHistoryRepository.appendAll(
+            products.stream()
+                .map(product -> new PriceChange(
+                    product.getId(),
+                    product.getBrandId(),
+                    product.getCategory(),
+                    product.getPrice() - previousPrices.get(product.getId()),
+                    ChangeType.UPDATED,
+                    changedAt
+                ))
+                .collect(Collectors.toList())
+        );
+    }
+
+    public void recordRemoved(Product product) {
+        priceHistoryRepository.appendAll(List.of(
+            new PriceChange(
+                product.getId(),
+                product.getBrandId(),
+                product.getCategory(),
+                -product.getPrice(),
+                ChangeType.REMOVED,
+                LocalDateTime.now(clock)
+            )
+        ));
+    }
+
+    public ProductAggregates aggregateAsOf(LocalDateTime asOf) {
+        return new CatalogAggregateEngine(replay(asOf)).compute();
+    }
+
+    // 여러 인스턴스에서 동시에 실행되어도 잠금으로 한 번에 하나씩 찍고, 뒤에 잠금을 얻은 쪽은 반영할 변경이 없으면 건너뛴다.
+    // 스냅샷은 직전 스냅샷에 이번에 반영한 이력 행만 더해 만든다.
+    @Transactional
+    @Scheduled(
+        initialDelayString = "${application.price-history.snapshot-interval:PT1H}",
+        fixedDelayString = "${application.price-history.snapshot-interval:PT1H}"
+    )
+    public void takeSnapshot() {
+        var takenAt = LocalDateTime.now(clock);
+        priceHistoryRepository.lockSnapshots();
+        if (!priceHistoryRepository.existsUnsnapshottedChanges(takenAt)) {
+            return;
+        }
+
+        var previous = priceHistoryRepository.findLatestSnapshot(takenAt);
+        var snapshotId = priceHistoryRepository.createSnapshot(takenAt);
+        var catalog = productCatalogFactory.create();
+        previous.ifPresent(it -> priceHistoryRepository.findSnapshotProducts(it.id(), catalog::put));
+        priceHistoryRepository.findSnapshotChanges(snapshotId, change -> apply(catalog, change));
+        priceHistoryRepository.saveSnapshotProducts(snapshotId, catalog);
+        log.info("price snapshot saved. takenAt = {}, products = {}", takenAt, catalog.size());
+    }
+
+    private ProductCatalog replay(LocalDateTime until) {
+        var catalog = productCatalogFactory.create();
+        var snapshot = priceHistoryRepository.findLatestSnapshot(until);
+
+        snapshot.ifPresent(it -> priceHistoryRepository.findSnapshotProducts(it.id(), catalog::put));
+        priceHistoryRepository.findChanges(
+            snapshot.map(Snapshot::id).orElse(null),
+            snapshot.map(it -> it.takenAt().minus(lateCommitWindow)).orElse(null),
+            until,
+            change -> apply(catalog, change)
+        );
+        return catalog;
+    }
+
+    // 늦게 커밋된 수정이 삭제 뒤에 재생되면 없는 상품에 대한 수정이 되므로 건너뛴다. 상품은 SAVED 로만 생긴다.
+    private void apply(ProductCatalog catalog, PriceChange change) {
+        switch (change.type()) {
+            case SAVED -> catalog.put(
+                new Product(change.productId(), change.brandId(), change.category(), change.priceDelta())
+            );
+            case UPDATED -> catalog.findById(change.productId()).ifPresentOrElse(
+                previous -> catalog.put(
+                    new Product(
+                        change.productId(),
+                        change.brandId(),
+                        change.category(),
+                        previous.getPrice() + change.priceDelta()
+                    )
+                ),
+                () -> log.warn(
+                    "price change for unknown product skipped. productId = {}, changedAt = {}",
+                    change.productId(),
+                    change.changedAt()
+                )
+            );
+            case REMOVED -> catalog.remove(change.productId());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.musinsa.assignment.product.application;
+
+import com.musinsa.assignment.common.exception.ApplicationException;
+import com.musinsa.assignment.common.support.Status;
+import com.musinsa.assignment.product.application.contract.BrandRepository;
+import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.ImportRowDto;
+import com.musinsa.assignment.product.application.listener.event.ProductChangeEvent;
+import com.musinsa.assignment.product.application.listener.event.ProductImportedEvent;
+import com.musinsa.assignment.product.domain.Brand;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.presentation.ProductController.ImportError;
+import com.musinsa.assignment.product.presentation.ProductController.ImportProductsResponse;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class ProductImportService {
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String SAVE_FAILED_MESSAGE = "저장에 실패했습니다.";
+
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final PriceHistoryService priceHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ProductImportService(ProductRepository productRepository,
+                                BrandRepository brandRepository,
+                                PriceHistoryService priceHistoryService,
+                                ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${application.import.batch-size:1000}") int batchSize) {
+        this.productRepository = productRepository;
+        this.brandRepository = brandRepository;
+        this.priceHistoryService = priceHistoryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 한 배치씩 읽고 저장하므로 입력 크기와 관계없이 메모리에는 최대 batchSize 행만 올라간다.
+    // 배치마다 커밋된 뒤 카탈로그/인덱스에만 반영하고, 통계 캐시는 마지막 배치까지 끝난 뒤 ProductImportedEvent 로 한 번 무효화한다.
+    // 등록하는 동안의 조회는 등록 전 통계를 받는다.
+    public ImportProductsResponse importProducts(Iterator<ImportRowDto> rows) {
+        var report = new ImportReport();
+
+        var batch = new ArrayList<ImportRowDto>(batchSize);
+        while (rows.hasNext()) {
+            var row = rows.next();
+
+            var error = validate(row);
+            if (error != null) {
+                report.fail(row.lineNumber(), error);
+                continue;
+            }
+
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                flush(batch, report);
+                batch.clear();
+            }
+        }
+        flush(batch, report);
+
+        if (!report.importedCategories.isEmpty()) {
+            eventPublisher.publishEvent(new ProductImportedEvent(report.importedCategories));
+        }
+        return report.toResponse();
+    }
+
+    private String validate(ImportRowDto row) {
+        if (row.error() != null) {
+            return row.error();
+        }
+
+        var hasInvalidProduct = row.products().stream()
+            .anyMatch(product -> product.category() == null || product.price() == null || product.price() <= 0);
+        if (row.products().isEmpty() || hasInvalidProduct) {
+            return Status.INVALID_PARAMETER.message();
+        }
+
+        if (row.brandId() != null) {
+            return brandRepository.existsById(row.brandId()) ? null : Status.BRAND_NOT_FOUND.message();
+        }
+
+        var categories = row.products().stream()
+            .map(AddBrandDto.Product::category)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(Category.class)));
+        if (row.brandName() == null || row.brandName().isBlank() || categories.size() != Category.values().length) {
+            return Status.CATEGORY_EMPTY.message();
+        }
+        return null;
+    }
+
+    private void flush(List<ImportRowDto> batch, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(batch));
+            report.succeed(batch);
+        } catch (RuntimeException e) {
+            log.warn("import batch failed, retrying row by row. size: {}", batch.size(), e);
+            // 어느 행 때문에 실패했는지 알 수 없으므로 행마다 따로 저장해 실패한 행만 그 사유와 함께 보고한다.
+            batch.forEach(row -> flush(row, report));
+        }
+    }
+
+    private void flush(ImportRowDto row, ImportReport report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(List.of(row)));
+            report.succeed(List.of(row));
+        } catch (RuntimeException e) {
+            log.error(
+                "{}. lineNumber = {}, message = {}",
+                e.getClass().getSimpleName(),
+                row.lineNumber(),
+                e.getMessage(),
+                e
+            );
+            report.fail(row.lineNumber(), reasonOf(e));
+        }
+    }
+
+    private String reasonOf(RuntimeException e) {
+        if (e instanceof ApplicationException applicationException) {
+            return applicationException.message();
+        }
+        if (e instanceof DataAccessException dataAccessException) {
+            return SAVE_FAILED_MESSAGE + " " + dataAccessException.getMostSpecificCause().getMessage();
+        }
+        return SAVE_FAILED_MESSAGE;
+    }
+
+    private void save(List<ImportRowDto> batch) {
+        var products = new ArrayList<Product>();
+        for (var row : batch) {
+            var brandId = row.brandId() != null
+                ? row.brandId()
+                : brandRepository.save(new Brand(row.brandName()));
+
+            row.products().forEach(product ->
+                products.add(
+                    new Product(
+                        brandId,
+                        product.category(),
+                        product.price()
+                    )
+                )
+            );
+        }
+
+        var ids = productRepository.saveAll(products);
+
+        var savedProducts = new ArrayList<Product>(products.size());
+        for (var i = 0; i < products.size(); i++) {
+            var product = products.get(i);
+            savedProducts.add(
+                new Product(
+                    ids.get(i),
+                    product.getBrandId(),
+                    product.getCategory(),
+                    product.getPrice()
+                )
+            );
+        }
+        priceHistoryService.recordSaved(savedProducts);
+        eventPublisher.publishEvent(
+            ProductChangeEvent.imported(savedProducts)
+        );
+    }
+
+    private static class ImportReport {
+        private final List<ImportError> errors = new ArrayList<>();
+        private final Set<Category> importedCategories = EnumSet.noneOf(Category.class);
+        private long importedRows;
+        private long failedRows;
+
+        void succeed(List<ImportRowDto> rows) {
+            importedRows += rows.size();
+            rows.forEach(row -> row.products().forEach(product -> importedCategories.add(product.category())));
+        }
+
+        void fail(long lineNumber, String reason) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportError(lineNumber, reason));
+            }
+        }
+
+        ImportProductsResponse toResponse() {
+            return new ImportProductsResponse(
+                importedRows,
+                failedRows,
+                errors
+            );
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.musinsa.assignment.product.application;
+
+import com.musinsa.assignment.common.support.TransactionHooks;
+import com.musinsa.assignment.product.application.contract.PriceUpdateJournal;
+import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.domain.Product;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 가격만 바뀌는 상품 수정을 저널에 기록한 뒤 바로 응답하고, 주기적으로 상품 별 마지막 값만 모아 배치로 반영한다.
+// 가격만 바뀌므로 브랜드/카테고리 별 상품 수 규칙(checkIfCategoryEmpty)에는 영향이 없다.
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "application.write-behind",
+    value = "enabled",
+    havingValue = "true"
+)
+public class ProductPriceWriteBehind {
+    private final PriceUpdateJournal journal;
+    private final ProductRepository productRepository;
+    private final PriceHistoryService priceHistoryService;
+    private final TransactionTemplate transactionTemplate;
+
+    // pending 과 저널 기록은 journalLock 안에서 함께 바뀐다.
+    private final Object journalLock = new Object();
+    private final Map<Long, PendingUpdate> pending = new LinkedHashMap<>();
+    // flush 가 꺼내 갔지만 아직 DB 에 커밋되지 않은 수정
+    private Map<Long, PendingUpdate> flushing = Map.of();
+    // flush 중인 상품을 동기 경로가 건드리지 않도록 flush 와 drop 을 직렬화한다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ProductPriceWriteBehind(PriceUpdateJournal journal,
+                                   ProductRepository productRepository,
+                                   PriceHistoryService priceHistoryService,
+                                   TransactionTemplate transactionTemplate) {
+        this.journal = journal;
+        this.productRepository = productRepository;
+        this.priceHistoryService = priceHistoryService;
+        this.transactionTemplate = transactionTemplate;
+
+        // 재시작 전에 응답했지만 반영하지 못한 수정은 다음 flush 때 반영된다.
+        journal.replay(new PriceUpdateJournal.Visitor() {
+            @Override
+            public void update(Product product, int basePrice) {
+                merge(product, basePrice);
+            }
+
+            @Override
+            public void drop(Long productId) {
+                pending.remove(productId);
+            }
+        });
+    }
+
+    public static boolean isPriceOnly(Product product, Long brandId, Product.Category category) {
+        return product.getBrandId().equals(brandId) && product.getCategory() == category;
+    }
+
+    // basePrice 는 현재 DB 에 반영돼 있는 가격이다.
+    // 호출한 트랜잭션(검증, 이벤트 발행)이 커밋된 뒤에 저널에 기록하므로 롤백된 수정은 반영되지 않는다.
+    public void accept(Product product, int basePrice) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (journalLock) {
+                journal.appendUpdate(product, basePrice);
+                merge(product, basePrice);
+            }
+        });
+    }
+
+    // 대기 중이거나 flush 중인 수정이 있으면 그 상품을, 없으면 DB 에서 읽은 상품을 그대로 돌려준다.
+    public Product current(Product product) {
+        synchronized (journalLock) {
+            var update = pending.get(product.getId());
+            if (update == null) {
+                update = flushing.get(product.getId());
+            }
+            return update == null ? product : update.product();
+        }
+    }
+
+    // 동기 경로로 수정/삭제되는 상품은 대기 중인 수정을 버린다. (나중 요청이 이긴다)
+    // 동기 쓰기보다 먼저 버려야 flush 가 덮어쓰지 않으므로 바로 버리고, 그 트랜잭션이 롤백되면 되돌려 놓는다.
+    public void drop(Long productId) {
+        PendingUpdate dropped;
+        flushLock.lock();
+        try {
+            synchronized (journalLock) {
+                dropped = pending.remove(productId);
+                if (dropped != null) {
+                    journal.appendDrop(productId);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (dropped != null) {
+            TransactionHooks.afterRollback(() -> restore(dropped));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.write-behind.flush-interval:PT0.2S}")
+    // 카탈로그와 통계 캐시는 수정을 받은 트랜잭션이 커밋될 때 이미 반영됐으므로 여기서는 DB 만 반영한다.
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, PendingUpdate> drained;
+            long sealed;
+            synchronized (journalLock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                drained = new HashMap<>(pending);
+                flushing = drained;
+                pending.clear();
+                sealed = journal.seal();
+            }
+
+            var products = drained.values().stream()
+                .map(PendingUpdate::product)
+                .collect(Collectors.toList());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    var ids = productRepository.updateAll(products);
+                    var basePrices = new HashMap<Long, Integer>();
+                    ids.forEach(id -> basePrices.put(id, drained.get(id).basePrice()));
+                    priceHistoryService.recordUpdated(
+                        basePrices,
+                        products.stream()
+                            .filter(product -> basePrices.containsKey(product.getId()))
+                            .collect(Collectors.toList())
+                    );
+                });
+            } catch (RuntimeException e) {
+                log.error(
+                    "{}. message = {}",
+                    e.getClass().getSimpleName(),
+                    e.getMessage(),
+                    e
+                );
+                // 실패한 세그먼트는 지우지 않고, 그 사이 들어온 더 새로운 수정이 없는 상품만 되돌려 놓는다.
+                synchronized (journalLock) {
+                    drained.forEach(pending::putIfAbsent);
+                }
+                return;
+            }
+            journal.delete(sealed);
+        } finally {
+            synchronized (journalLock) {
+                flushing = Map.of();
+            }
+            flushLock.unlock();
+        }
+    }
+
+    // 그 사이 들어온 더 새로운 수정이 있으면 그것을 남긴다.
+    private void restore(PendingUpdate update) {
+        synchronized (journalLock) {
+            if (pending.putIfAbsent(update.product().getId(), update) == null) {
+                journal.appendUpdate(update.product(), update.basePrice());
+            }
+        }
+    }
+
+    private void merge(Product product, int basePrice) {
+        pending.merge(
+            product.getId(),
+            new PendingUpdate(product, basePrice),
+            (previous, next) -> new PendingUpdate(next.product(), previous.basePrice())
+        );
+    }
+
+    private record PendingUpdate(
+        Product product,
+        int basePrice
+    ) {
+    }
+}
@@ -1,35 +1,64 @@
 package com.musinsa.assignment.product.application;
 
+import com.musinsa.assignment.common.support.TransactionHooks;
+import com.musinsa.assignment.product.application.aggregate.AggregateEngine;
 import com.musinsa.assignment.product.application.contract.BrandRepository;
 import com.musinsa.assignment.product.application.contract.CacheManager;
+import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.application.contract.ProductRepository.BrandProductCursor;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex.Cursor;
+import com.musinsa.assignment.product.application.dto.SearchProductsDto;
 import com.musinsa.assignment.product.application.exception.BrandNotFoundException;
+import com.musinsa.assignment.product.application.exception.InvalidCursorException;
 import com.musinsa.assignment.product.application.listener.ProductEventListener.BrandMinCacheData;
 import com.musinsa.assignment.product.domain.Product;
 import com.musinsa.assignment.product.domain.Product.Category;
 import com.musinsa.assignment.product.presentation.ProductController.BrandMinPricesResponse;
+import com.musinsa.assignment.product.presentation.ProductController.BrandProductsResponse;
 import com.musinsa.assignment.product.presentation.ProductController.CategoryMinMaxPricesResponse;
 import com.musinsa.assignment.product.presentation.ProductController.CategoriesMinPricesResponse;
 import com.musinsa.assignment.product.presentation.ProductController.PresentationProduct;
+import com.musinsa.assignment.product.presentation.ProductController.ProductSummaryResponse;
+import com.musinsa.assignment.product.presentation.ProductController.SearchProductsResponse;
+import com.musinsa.assignment.product.presentation.ProductController.SearchedProduct;
 import com.musinsa.assignment.product.presentation.util.CategoryUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ProductQueryService {
     private final BrandRepository brandRepository;
+    private final ProductRepository productRepository;
     private final CacheManager cacheManager;
+    private final ObjectProvider<ProductSearchIndex> productSearchIndex;
+    private final AggregateEngine aggregateEngine;
+    private final PriceHistoryService priceHistoryService;
+    private final AggregateRefreshCircuit aggregateRefreshCircuit;
 
     public CategoriesMinPricesResponse getCategoriesMinPrices() {
-        var products = Arrays.stream(Category.values())
-            .map(category -> cacheManager.get("CATEGORY:MIN:" + category.name(), Product.class))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
+        return toCategoriesMinPricesResponse(
+            Arrays.stream(Category.values())
+                .map(this::getCategoryMinPrice)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private CategoriesMinPricesResponse toCategoriesMinPricesResponse(List<Product> minPriceProducts) {
+        var products = minPriceProducts.stream()
             .map(this::convertToPresentationProduct)
             .collect(Collectors.toList());
 
@@ -44,10 +73,17 @@ public class ProductQueryService {
     }
 
     public BrandMinPricesResponse getBrandMinPrices() {
-        var brandProducts = cacheManager.get("BRAND:MIN", BrandMinCacheData.class)
-            .orElseGet(() -> new BrandMinCacheData(Collections.emptyList()))
-            .products();
+        return toBrandMinPricesResponse(
+            cacheManager.getOrLoad("BRAND:MIN", BrandMinCacheData.class, () -> {
+                discardOnRollback("BRAND:MIN");
+                return loadBrandMinPrice();
+            })
+                .orElseGet(() -> new BrandMinCacheData(Collections.emptyList()))
+                .products()
+        );
+    }
 
+    private BrandMinPricesResponse toBrandMinPricesResponse(List<Product> brandProducts) {
         if (brandProducts.isEmpty()) {
             return new BrandMinPricesResponse(
                 0,
@@ -72,11 +108,39 @@ public class ProductQueryService {
     }
 
     public CategoryMinMaxPricesResponse getCategoryMinMaxPrices(Category category) {
-        var minProduct = cacheManager.get("CATEGORY:MIN:" + category.name(), Product.class)
-            .orElseThrow();
-        var maxProduct = cacheManager.get("CATEGORY:MAX:" + category.name(), Product.class)
+        return findCategoryMinMaxPrices(category)
             .orElseThrow();
+    }
+
+    // 캐시된 통계만으로 조립하며, 상품이 없는 카테고리는 최저/최고가 목록에서 제외한다.
+    public ProductSummaryResponse getSummary() {
+        var categoryMinMaxPrices = Arrays.stream(Category.values())
+            .map(this::findCategoryMinMaxPrices)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+
+        return new ProductSummaryResponse(
+            getCategoriesMinPrices(),
+            getBrandMinPrices(),
+            categoryMinMaxPrices
+        );
+    }
+
+    private Optional<CategoryMinMaxPricesResponse> findCategoryMinMaxPrices(Category category) {
+        var minProduct = getCategoryMinPrice(category);
+        var maxProduct = getCategoryMaxPrice(category);
+        if (minProduct.isEmpty() || maxProduct.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(
+            toCategoryMinMaxPricesResponse(category, minProduct.get(), maxProduct.get())
+        );
+    }
 
+    private CategoryMinMaxPricesResponse toCategoryMinMaxPricesResponse(Category category,
+                                                                        Product minProduct,
+                                                                        Product maxProduct) {
         var categoryString = CategoryUtils.convertFrom(category);
 
         return new CategoryMinMaxPricesResponse(
@@ -86,6 +150,196 @@ public class ProductQueryService {
         );
     }
 
+    // 가격 이력을 재생해 asOf 시점의 통계를 계산한다. 캐시를 거치지 않는다.
+    public ProductSummaryResponse getSummaryAsOf(LocalDateTime asOf) {
+        var aggregates = priceHistoryService.aggregateAsOf(asOf);
+        var minPriceProducts = aggregates.minPriceProducts();
+        var maxPriceProducts = aggregates.maxPriceProducts();
+
+        return new ProductSummaryResponse(
+            toCategoriesMinPricesResponse(
+                Arrays.stream(Category.values())
+                    .filter(minPriceProducts::containsKey)
+                    .map(minPriceProducts::get)
+                    .collect(Collectors.toList())
+            ),
+            toBrandMinPricesResponse(aggregates.brandMinPriceProducts()),
+            Arrays.stream(Category.values())
+                .filter(category -> minPriceProducts.containsKey(category) && maxPriceProducts.containsKey(category))
+                .map(category -> toCategoryMinMaxPricesResponse(
+                    category,
+                    minPriceProducts.get(category),
+                    maxPriceProducts.get(category)
+                ))
+                .collect(Collectors.toList())
+        );
+    }
+
+    // 캐시가 비어 있거나 무효화된 경우 그 키만 한 번 다시 계산한다.
+    // 재계산이 타임아웃되면 캐시는 무효화 전 값을 내주고, 회로가 열린 동안은 재계산하지 않는다.
+    private Optional<Product> getCategoryMinPrice(Category category) {
+        var key = "CATEGORY:MIN:" + category.name();
+        return cacheManager.getOrLoad(
+            key,
+            Product.class,
+            () -> {
+                discardOnRollback(key);
+                return aggregateRefreshCircuit.call(key, () -> aggregateEngine.computeMinPriceProduct(category).orElse(null));
+            }
+        );
+    }
+
+    private Optional<Product> getCategoryMaxPrice(Category category) {
+        var key = "CATEGORY:MAX:" + category.name();
+        return cacheManager.getOrLoad(
+            key,
+            Product.class,
+            () -> {
+                discardOnRollback(key);
+                return aggregateRefreshCircuit.call(key, () -> aggregateEngine.computeMaxPriceProduct(category).orElse(null));
+            }
+        );
+    }
+
+    // 쓰기 트랜잭션 안에서 계산한 값은 커밋되지 않은 변경을 담을 수 있으므로, 그 트랜잭션이 롤백되면 버린다.
+    private void discardOnRollback(String key) {
+        TransactionHooks.afterRollback(() -> cacheManager.invalidate(key));
+    }
+
+    private BrandMinCacheData loadBrandMinPrice() {
+        var products = aggregateRefreshCircuit.call("BRAND:MIN", aggregateEngine::computeBrandMinPriceProducts);
+        return products.isEmpty() ? null : new BrandMinCacheData(products);
+    }
+
+    public BrandProductsResponse getBrandProducts(Long brandId, String cursor, int size) {
+        var brandName = getBrandName(brandId);
+
+        var products = new ArrayList<Product>(size + 1);
+        productRepository.findAllByBrandId(
+            brandId,
+            decodeBrandProductCursor(cursor),
+            size + 1,
+            products::add
+        );
+
+        var hasNext = products.size() > size;
+        var page = hasNext ? products.subList(0, size) : products;
+
+        return new BrandProductsResponse(
+            brandName,
+            page.stream()
+                .map(this::convertToSearchedProduct)
+                .collect(Collectors.toList()),
+            hasNext ? encodeBrandProductCursor(page.get(page.size() - 1)) : null
+        );
+    }
+
+    public void exportProducts(BiConsumer<Product, String> consumer) {
+        productRepository.findAllWithBrandName(consumer);
+    }
+
+    public SearchProductsResponse searchProducts(SearchProductsDto dto) {
+        var minPrice = dto.minPrice() == null ? 0 : dto.minPrice();
+        var maxPrice = dto.maxPrice() == null ? Integer.MAX_VALUE : dto.maxPrice();
+        var after = decodeSearchCursor(dto.cursor());
+
+        // 메모리 인덱스가 없으면 (category, price, id) 인덱스로 DB 에서 찾는다.
+        var searchIndex = productSearchIndex.getIfAvailable();
+        var products = searchIndex != null
+            ? searchIndex.search(
+                dto.category(), minPrice, maxPrice, dto.descending(), after, dto.size() + 1
+            )
+            : productRepository.searchByCategoryAndPrice(
+                dto.category(), minPrice, maxPrice, dto.descending(), after, dto.size() + 1
+            );
+
+        var hasNext = products.size() > dto.size();
+        var page = hasNext ? products.subList(0, dto.size()) : products;
+
+        return new SearchProductsResponse(
+            page.stream()
+                .map(this::convertToSearchedProduct)
+                .collect(Collectors.toList()),
+            hasNext ? encodeSearchCursor(page.get(page.size() - 1)) : null
+        );
+    }
+
+    private SearchedProduct convertToSearchedProduct(Product product) {
+        return new SearchedProduct(
+            product.getId(),
+            CategoryUtils.convertFrom(product.getCategory()),
+            getBrandName(product.getBrandId()),
+            product.getPrice()
+        );
+    }
+
+    private String encodeSearchCursor(Product product) {
+        return encodeCursor(
+            product.getPrice() + ":" + product.getId()
+        );
+    }
+
+    private Cursor decodeSearchCursor(String cursor) {
+        var parts = decodeCursorParts(cursor, 2);
+        if (parts == null) {
+            return null;
+        }
+
+        try {
+            return new Cursor(
+                Integer.parseInt(parts[0]),
+                Long.parseLong(parts[1])
+            );
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private String encodeBrandProductCursor(Product product) {
+        return encodeCursor(
+            product.getCategory().name() + ":" + product.getPrice() + ":" + product.getId()
+        );
+    }
+
+    private BrandProductCursor decodeBrandProductCursor(String cursor) {
+        var parts = decodeCursorParts(cursor, 3);
+        if (parts == null) {
+            return null;
+        }
+
+        try {
+            return new BrandProductCursor(
+                Category.valueOf(parts[0]),
+                Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private String encodeCursor(String cursor) {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursorParts(String cursor, int partCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != partCount) {
+                throw new InvalidCursorException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
     private PresentationProduct convertToPresentationProduct(Product product) {
         return new PresentationProduct(
             CategoryUtils.convertFrom(product.getCategory()),
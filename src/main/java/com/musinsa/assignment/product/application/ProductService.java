@@ -12,20 +12,36 @@ import com.musinsa.assignment.product.application.listener.event.ProductChangeEv
 import com.musinsa.assignment.product.domain.Brand;
 import com.musinsa.assignment.product.domain.Product;
 import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
+    private final PriceHistoryService priceHistoryService;
+    private final ObjectProvider<ProductPriceWriteBehind> productPriceWriteBehind;
     private final ApplicationEventPublisher eventPublisher;
+    private final BrandWriteLocks brandWriteLocks;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 브랜드/카테고리 별 상품 수 규칙(checkIfCategoryEmpty)이 동시 요청에 깨지지 않도록
+    // 상품 쓰기는 관련 브랜드의 락을 잡은 채로 트랜잭션을 시작하고 커밋한다.
     public Long addProduct(AddProductDto dto) {
+        return brandWriteLocks.withLocks(
+            List.of(dto.brandId()),
+            () -> transactionTemplate.execute(status -> insertProduct(dto))
+        );
+    }
+
+    private Long insertProduct(AddProductDto dto) {
         checkIfBrandExist(dto.brandId());
 
         var newProduct = new Product(
@@ -35,22 +51,74 @@ public class ProductService {
         );
 
         var newId = productRepository.save(newProduct);
+        var savedProduct = new Product(
+            newId,
+            newProduct.getBrandId(),
+            newProduct.getCategory(),
+            newProduct.getPrice()
+        );
+        priceHistoryService.recordSaved(List.of(savedProduct));
 
         eventPublisher.publishEvent(
-            new ProductChangeEvent()
+            ProductChangeEvent.saved(savedProduct)
         );
 
         return newId;
     }
 
-    @Transactional
     public void updateProduct(Long productId, UpdateProductDto dto) {
-        var product = productRepository.findById(productId)
-            .orElseThrow(ProductNotFoundException::new);
+        while (true) {
+            var brandId = findBrandId(productId);
+            var updated = brandWriteLocks.withLocks(
+                List.of(brandId, dto.brandId()),
+                () -> transactionTemplate.execute(status -> {
+                    var product = productRepository.findById(productId)
+                        .orElseThrow(ProductNotFoundException::new);
+                    if (!product.getBrandId().equals(brandId)) {
+                        return false;
+                    }
+                    update(product, dto);
+                    return true;
+                })
+            );
+
+            if (Boolean.TRUE.equals(updated)) {
+                return;
+            }
+        }
+    }
 
+    private void update(Product product, UpdateProductDto dto) {
         checkIfBrandExist(dto.brandId());
         checkIfCategoryEmpty(product.getBrandId(), product.getCategory());
 
+        var writeBehind = productPriceWriteBehind.getIfAvailable();
+        if (writeBehind != null) {
+            if (ProductPriceWriteBehind.isPriceOnly(product, dto.brandId(), dto.category())) {
+                var updated = new Product(
+                    product.getId(),
+                    product.getBrandId(),
+                    product.getCategory(),
+                    dto.price()
+                );
+                // DB 의 상품에는 아직 반영되지 않은 가격이 있을 수 있으므로 대기 중인 가격을 이전 상품으로 쓴다.
+                var previousProduct = writeBehind.current(product);
+                writeBehind.accept(updated, product.getPrice());
+
+                eventPublisher.publishEvent(
+                    ProductChangeEvent.updated(previousProduct, updated)
+                );
+                return;
+            }
+            writeBehind.drop(product.getId());
+        }
+
+        var previousProduct = new Product(
+            product.getId(),
+            product.getBrandId(),
+            product.getCategory(),
+            product.getPrice()
+        );
         product.update(
             dto.brandId(),
             dto.category(),
@@ -58,49 +126,86 @@ public class ProductService {
         );
 
         productRepository.save(product);
+        priceHistoryService.recordUpdated(previousProduct.getPrice(), product);
 
         eventPublisher.publishEvent(
-            new ProductChangeEvent()
+            ProductChangeEvent.updated(previousProduct, product)
         );
     }
 
-    @Transactional
     public void removeProduct(Long productId) {
-        var product = productRepository.findById(productId)
-            .orElseThrow(ProductNotFoundException::new);
+        while (true) {
+            var brandId = findBrandId(productId);
+            var removed = brandWriteLocks.withLocks(
+                List.of(brandId),
+                () -> transactionTemplate.execute(status -> {
+                    var product = productRepository.findById(productId)
+                        .orElseThrow(ProductNotFoundException::new);
+                    if (!product.getBrandId().equals(brandId)) {
+                        return false;
+                    }
+                    remove(product);
+                    return true;
+                })
+            );
+
+            if (Boolean.TRUE.equals(removed)) {
+                return;
+            }
+        }
+    }
 
+    private void remove(Product product) {
         checkIfCategoryEmpty(product.getBrandId(), product.getCategory());
 
+        productPriceWriteBehind.ifAvailable(writeBehind -> writeBehind.drop(product.getId()));
         productRepository.delete(product);
+        priceHistoryService.recordRemoved(product);
 
         eventPublisher.publishEvent(
-            new ProductChangeEvent()
+            ProductChangeEvent.removed(product)
         );
     }
 
+    // 새 브랜드는 다른 요청이 아직 알 수 없으므로 락 없이 쓴다.
     @Transactional
     public Long addBrand(AddBrandDto dto) {
         var newBrandId = brandRepository.save(new Brand(dto.brandName()));
-        dto.products().forEach(product ->
-            productRepository.save(
-                new Product(
+        var newProducts = dto.products().stream()
+            .map(product -> {
+                var newProductId = productRepository.save(
+                    new Product(
+                        newBrandId,
+                        product.category(),
+                        product.price()
+                    )
+                );
+                return new Product(
+                    newProductId,
                     newBrandId,
                     product.category(),
                     product.price()
-                )
-            )
-        );
+                );
+            })
+            .collect(Collectors.toList());
+        priceHistoryService.recordSaved(newProducts);
 
         eventPublisher.publishEvent(
-            new ProductChangeEvent()
+            ProductChangeEvent.saved(newProducts)
         );
 
         return newBrandId;
     }
 
+    // 락을 잡을 브랜드를 정하기 위해 먼저 읽는다. 락을 잡은 뒤 브랜드가 바뀌어 있으면 다시 시도한다.
+    private Long findBrandId(Long productId) {
+        return productRepository.findById(productId)
+            .map(Product::getBrandId)
+            .orElseThrow(ProductNotFoundException::new);
+    }
+
     private void checkIfBrandExist(Long brandId) {
-        var brand = brandRepository.findById(brandId);
-        if (brand.isEmpty()) {
+        if (!brandRepository.existsById(brandId)) {
             throw new BrandNotFoundException();
         }
     }
@@ -0,0 +1,202 @@
+package com.musinsa.assignment.product.application;
+
+import com.musinsa.assignment.common.support.TransactionHooks;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 쓰기 요청을 큐에 모아 committer 스레드 하나가 최대 max-batch-size 개, 첫 요청 이후 최대 max-wait-micros 동안 모인 요청을
+// 한 트랜잭션으로 커밋한다. 요청마다 세이브포인트를 두어 실패한 요청만 롤백하고, 각 요청의 future 는 그룹이 커밋된 뒤에 완료된다.
+// 세이브포인트로 되돌아가지 않는 메모리 상태(브랜드 목록, 커밋 후 반영할 변경, 쓰기 지연 대기열)는
+// TransactionHooks.partial 로 실패한 요청의 것만 되돌린다.
+// 꺼져 있으면 호출한 스레드에서 바로 실행한다.
+@Slf4j
+@Component
+public class ProductWritePipeline implements Closeable {
+    private static final long POLL_MILLIS = 100;
+
+    private final ProductService productService;
+    private final BrandWriteLocks brandWriteLocks;
+    private final TransactionTemplate groupTemplate;
+    private final TransactionTemplate commandTemplate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<Command<?>> queue;
+    private final Thread committer;
+    private volatile boolean closed;
+
+    public ProductWritePipeline(ProductService productService,
+                                BrandWriteLocks brandWriteLocks,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${application.group-commit.enabled:false}") boolean enabled,
+                                @Value("${application.group-commit.max-batch-size:64}") int maxBatchSize,
+                                @Value("${application.group-commit.max-wait-micros:500}") long maxWaitMicros,
+                                @Value("${application.group-commit.queue-size:10000}") int queueSize) {
+        this.productService = productService;
+        this.brandWriteLocks = brandWriteLocks;
+        this.groupTemplate = new TransactionTemplate(transactionManager);
+        this.commandTemplate = new TransactionTemplate(transactionManager);
+        this.commandTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+
+        if (enabled) {
+            this.committer = new Thread(this::run, "product-group-commit");
+            this.committer.setDaemon(true);
+            this.committer.start();
+        } else {
+            this.committer = null;
+        }
+    }
+
+    public CompletableFuture<Long> addProduct(AddProductDto dto) {
+        return submit(() -> productService.addProduct(dto));
+    }
+
+    public CompletableFuture<Void> updateProduct(Long productId, UpdateProductDto dto) {
+        return submit(() -> {
+            productService.updateProduct(productId, dto);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> removeProduct(Long productId) {
+        return submit(() -> {
+            productService.removeProduct(productId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Long> addBrand(AddBrandDto dto) {
+        return submit(() -> productService.addBrand(dto));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(work.get());
+        }
+        if (closed) {
+            throw new IllegalStateException("write pipeline is closed");
+        }
+
+        var command = new Command<>(work, new CompletableFuture<T>());
+        try {
+            // 큐가 가득 차면 committer 가 따라잡을 때까지 호출한 스레드를 막는다.
+            queue.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return command.future();
+    }
+
+    private void run() {
+        var group = new ArrayList<Command<?>>(maxBatchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+
+                var deadline = System.nanoTime() + maxWaitNanos;
+                while (group.size() < maxBatchSize) {
+                    var remaining = deadline - System.nanoTime();
+                    var next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void commit(List<Command<?>> group) {
+        var results = new Object[group.size()];
+        var failures = new RuntimeException[group.size()];
+
+        try {
+            // 그룹 안의 변경은 커밋된 뒤 ProductBatchChangeEvent 하나로 반영되어 통계 캐시도 한 번만 갱신된다.
+            // 요청 별 브랜드 락은 커밋 전에 풀리므로, 커밋될 때까지 파이프라인 밖의 브랜드 쓰기(checkIfCategoryEmpty)를 막는다.
+            brandWriteLocks.exclusively(() -> groupTemplate.execute(status -> {
+                for (var i = 0; i < group.size(); i++) {
+                    var command = group.get(i);
+                    try {
+                        results[i] = commandTemplate.execute(savepoint -> TransactionHooks.partial(command.work()));
+                    } catch (RuntimeException e) {
+                        failures[i] = e;
+                    }
+                }
+                return null;
+            }));
+        } catch (RuntimeException | Error e) {
+            log.error("group commit failed. size: {}", group.size(), e);
+            group.forEach(command -> command.future().completeExceptionally(e));
+            return;
+        }
+
+        for (var i = 0; i < group.size(); i++) {
+            if (failures[i] != null) {
+                group.get(i).future().completeExceptionally(failures[i]);
+            } else {
+                group.get(i).complete(results[i]);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (committer == null) {
+            return;
+        }
+
+        // 이미 받은 요청은 모두 커밋한 뒤 멈춘다.
+        closed = true;
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Command<?> command;
+        while ((command = queue.poll()) != null) {
+            command.future().completeExceptionally(new IllegalStateException("write pipeline is closed"));
+        }
+    }
+
+    private record Command<T>(
+        Supplier<T> work,
+        CompletableFuture<T> future
+    ) {
+        @SuppressWarnings("unchecked")
+        void complete(Object result) {
+            future.complete((T) result);
+        }
+    }
+}
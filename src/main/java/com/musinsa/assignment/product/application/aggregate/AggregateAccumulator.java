@@ -0,0 +1,172 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import com.musinsa.assignment.product.application.contract.ProductCatalog.View;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 카탈로그를 한 번 훑으면서 카테고리별 최저가/최고가와 브랜드-카테고리별 최저가를 모은다.
+// 같은 가격이면 id 가 큰 상품을 고르는 SQL 쿼리와 같은 기준을 따른다.
+class AggregateAccumulator implements Consumer<View> {
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final Extreme[] minExtremes = new Extreme[CATEGORIES.length];
+    private final Extreme[] maxExtremes = new Extreme[CATEGORIES.length];
+    private final Map<Long, Extreme[]> brandMinExtremes = new HashMap<>();
+
+    private long lastBrandId = Long.MIN_VALUE;
+    private Extreme[] lastBrandExtremes;
+
+    @Override
+    public void accept(View view) {
+        var ordinal = view.category().ordinal();
+
+        if (isCheaper(minExtremes[ordinal], view)) {
+            minExtremes[ordinal] = Extreme.of(view);
+        }
+        if (isMoreExpensive(maxExtremes[ordinal], view)) {
+            maxExtremes[ordinal] = Extreme.of(view);
+        }
+
+        var brandExtremes = brandExtremesOf(view.brandId());
+        if (isCheaper(brandExtremes[ordinal], view)) {
+            brandExtremes[ordinal] = Extreme.of(view);
+        }
+    }
+
+    AggregateAccumulator merge(AggregateAccumulator other) {
+        for (var ordinal = 0; ordinal < CATEGORIES.length; ordinal++) {
+            minExtremes[ordinal] = cheaper(minExtremes[ordinal], other.minExtremes[ordinal]);
+            maxExtremes[ordinal] = moreExpensive(maxExtremes[ordinal], other.maxExtremes[ordinal]);
+        }
+
+        other.brandMinExtremes.forEach((brandId, otherExtremes) -> {
+            var brandExtremes = brandMinExtremes.computeIfAbsent(brandId, id -> new Extreme[CATEGORIES.length]);
+            for (var ordinal = 0; ordinal < CATEGORIES.length; ordinal++) {
+                brandExtremes[ordinal] = cheaper(brandExtremes[ordinal], otherExtremes[ordinal]);
+            }
+        });
+        lastBrandId = Long.MIN_VALUE;
+        lastBrandExtremes = null;
+
+        return this;
+    }
+
+    ProductAggregates toAggregates() {
+        return new ProductAggregates(
+            toProductMap(minExtremes),
+            toProductMap(maxExtremes),
+            cheapestBrandProducts()
+        );
+    }
+
+    private Extreme[] brandExtremesOf(long brandId) {
+        if (brandId != lastBrandId) {
+            lastBrandId = brandId;
+            lastBrandExtremes = brandMinExtremes.computeIfAbsent(brandId, id -> new Extreme[CATEGORIES.length]);
+        }
+        return lastBrandExtremes;
+    }
+
+    private List<Product> cheapestBrandProducts() {
+        Extreme[] cheapest = null;
+        var cheapestBrandId = Long.MAX_VALUE;
+        var cheapestTotal = Long.MAX_VALUE;
+
+        for (var entry : brandMinExtremes.entrySet()) {
+            var total = Arrays.stream(entry.getValue())
+                .filter(extreme -> extreme != null)
+                .mapToLong(Extreme::price)
+                .sum();
+
+            if (total < cheapestTotal || (total == cheapestTotal && entry.getKey() < cheapestBrandId)) {
+                cheapest = entry.getValue();
+                cheapestBrandId = entry.getKey();
+                cheapestTotal = total;
+            }
+        }
+
+        var products = new ArrayList<Product>();
+        if (cheapest == null) {
+            return products;
+        }
+
+        for (var ordinal = 0; ordinal < CATEGORIES.length; ordinal++) {
+            if (cheapest[ordinal] != null) {
+                products.add(cheapest[ordinal].toProduct(CATEGORIES[ordinal]));
+            }
+        }
+        return products;
+    }
+
+    private static Map<Category, Product> toProductMap(Extreme[] extremes) {
+        var productMap = new EnumMap<Category, Product>(Category.class);
+        for (var ordinal = 0; ordinal < CATEGORIES.length; ordinal++) {
+            if (extremes[ordinal] != null) {
+                productMap.put(CATEGORIES[ordinal], extremes[ordinal].toProduct(CATEGORIES[ordinal]));
+            }
+        }
+        return productMap;
+    }
+
+    private static boolean isCheaper(Extreme current, View view) {
+        return current == null
+            || view.price() < current.price()
+            || (view.price() == current.price() && view.id() > current.id());
+    }
+
+    private static boolean isMoreExpensive(Extreme current, View view) {
+        return current == null
+            || view.price() > current.price()
+            || (view.price() == current.price() && view.id() > current.id());
+    }
+
+    private static Extreme cheaper(Extreme left, Extreme right) {
+        if (left == null || right == null) {
+            return left == null ? right : left;
+        }
+        if (right.price() < left.price() || (right.price() == left.price() && right.id() > left.id())) {
+            return right;
+        }
+        return left;
+    }
+
+    private static Extreme moreExpensive(Extreme left, Extreme right) {
+        if (left == null || right == null) {
+            return left == null ? right : left;
+        }
+        if (right.price() > left.price() || (right.price() == left.price() && right.id() > left.id())) {
+            return right;
+        }
+        return left;
+    }
+
+    private record Extreme(
+        long id,
+        long brandId,
+        int price
+    ) {
+        static Extreme of(View view) {
+            return new Extreme(
+                view.id(),
+                view.brandId(),
+                view.price()
+            );
+        }
+
+        Product toProduct(Category category) {
+            return new Product(
+                id,
+                brandId,
+                category,
+                price
+            );
+        }
+    }
+}
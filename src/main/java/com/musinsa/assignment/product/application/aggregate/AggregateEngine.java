@@ -0,0 +1,30 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+import java.util.Optional;
+
+public interface AggregateEngine {
+
+    ProductAggregates compute();
+
+    // 무효화된 캐시 키 하나를 다시 채울 때 쓴다. 기본 구현은 전체를 계산한 뒤 필요한 값만 꺼낸다.
+    default Optional<Product> computeMinPriceProduct(Category category) {
+        return Optional.ofNullable(compute().minPriceProducts().get(category));
+    }
+
+    default Optional<Product> computeMaxPriceProduct(Category category) {
+        return Optional.ofNullable(compute().maxPriceProducts().get(category));
+    }
+
+    default List<Product> computeBrandMinPriceProducts() {
+        return compute().brandMinPriceProducts();
+    }
+
+    // 브랜드 하나의 카테고리 별 최저가 상품. 전체를 계산하는 것보다 싸게 구할 수 없으면 비어 있다.
+    default Optional<List<Product>> computeBrandCategoryMinPrices(Long brandId) {
+        return Optional.empty();
+    }
+
+}
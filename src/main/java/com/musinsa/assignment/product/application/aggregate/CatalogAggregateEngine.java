@@ -0,0 +1,77 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// 카탈로그의 slot 구간을 fork/join 으로 나눠 스레드별로 집계한 뒤 마지막에 합친다.
+public class CatalogAggregateEngine implements AggregateEngine {
+    private static final int SPLIT_THRESHOLD = 1 << 16;
+
+    private final ProductCatalog productCatalog;
+    private final ForkJoinPool forkJoinPool;
+    private final Object computeLock = new Object();
+    private Computed lastComputed;
+
+    public CatalogAggregateEngine(ProductCatalog productCatalog) {
+        this(
+            productCatalog,
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    public CatalogAggregateEngine(ProductCatalog productCatalog,
+                                  ForkJoinPool forkJoinPool) {
+        this.productCatalog = productCatalog;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    // 무효화된 캐시 키마다 로더가 compute 를 부르므로, 카탈로그가 그대로면 마지막 결과를 돌려줘 전체를 한 번만 훑는다.
+    @Override
+    public ProductAggregates compute() {
+        return productCatalog.read(() -> {
+            synchronized (computeLock) {
+                var version = productCatalog.version();
+                if (lastComputed == null || lastComputed.version() != version) {
+                    lastComputed = new Computed(
+                        version,
+                        forkJoinPool.invoke(new ScanTask(0, productCatalog.slotCount())).toAggregates()
+                    );
+                }
+                return lastComputed.aggregates();
+            }
+        });
+    }
+
+    private record Computed(
+        long version,
+        ProductAggregates aggregates
+    ) {
+    }
+
+    private class ScanTask extends RecursiveTask<AggregateAccumulator> {
+        private final int fromSlot;
+        private final int toSlot;
+
+        private ScanTask(int fromSlot, int toSlot) {
+            this.fromSlot = fromSlot;
+            this.toSlot = toSlot;
+        }
+
+        @Override
+        protected AggregateAccumulator compute() {
+            if (toSlot - fromSlot <= SPLIT_THRESHOLD) {
+                var accumulator = new AggregateAccumulator();
+                productCatalog.scan(fromSlot, toSlot, accumulator);
+                return accumulator;
+            }
+
+            var middleSlot = (fromSlot + toSlot) >>> 1;
+            var left = new ScanTask(fromSlot, middleSlot);
+            left.fork();
+            var right = new ScanTask(middleSlot, toSlot).compute();
+
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import static java.util.stream.Collectors.toMap;
+
+import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class JdbcAggregateEngine implements AggregateEngine {
+    private final ProductRepository productRepository;
+
+    @Override
+    public ProductAggregates compute() {
+        var minProductMap = productRepository.findMinPriceProductsByCategory().stream()
+            .collect(toMap(
+                Product::getCategory,
+                Function.identity()
+            ));
+
+        var maxProductMap = productRepository.findMaxPriceProductsByCategory().stream()
+            .collect(toMap(
+                Product::getCategory,
+                Function.identity()
+            ));
+
+        return new ProductAggregates(
+            minProductMap,
+            maxProductMap,
+            productRepository.findAllByBrandMinPrice()
+        );
+    }
+
+    @Override
+    public Optional<Product> computeMinPriceProduct(Category category) {
+        return productRepository.findMinPriceProduct(category);
+    }
+
+    @Override
+    public Optional<Product> computeMaxPriceProduct(Category category) {
+        return productRepository.findMaxPriceProduct(category);
+    }
+
+    @Override
+    public List<Product> computeBrandMinPriceProducts() {
+        return productRepository.findAllByBrandMinPrice();
+    }
+
+    @Override
+    public Optional<List<Product>> computeBrandCategoryMinPrices(Long brandId) {
+        return Optional.of(productRepository.findBrandCategoryMinimums(brandId));
+    }
+}
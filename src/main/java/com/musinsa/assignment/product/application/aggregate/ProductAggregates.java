@@ -0,0 +1,13 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+import java.util.Map;
+
+public record ProductAggregates(
+    Map<Category, Product> minPriceProducts,
+    Map<Category, Product> maxPriceProducts,
+    List<Product> brandMinPriceProducts
+) {
+}
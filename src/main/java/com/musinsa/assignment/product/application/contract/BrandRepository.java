@@ -9,4 +9,6 @@ public interface BrandRepository {
 
     Optional<Brand> findById(Long id);
 
+    boolean existsById(Long id);
+
 }
@@ -1,10 +1,34 @@
 package com.musinsa.assignment.product.application.contract;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface CacheManager {
 
     <T> void set(String key, T data);
 
+    // 무효화된 키는 비어 있는 것으로 본다.
     <T> Optional<T> get(String key, Class<T> clazz);
+
+    // 키가 없거나 무효화됐으면 loader 로 채운다. 같은 키의 로드는 동시에 하나만 실행되며,
+    // 나머지 호출은 무효화 전 값이 있으면 그 값을 바로 받고, 없으면 로드가 끝날 때까지 기다린다.
+    // 로드가 실패해도 무효화 전 값이 있으면 그 값을 반환하고, 키는 무효화된 채로 둔다.
+    <T> Optional<T> getOrLoad(String key, Class<T> clazz, Supplier<T> loader);
+
+    // 값과 함께 그 값을 저장한 시점의 stamp 를 돌려준다. 무효화된 키는 비어 있는 것으로 본다.
+    <T> Optional<Stamped<T>> getStamped(String key, Class<T> clazz);
+
+    // getStamped 로 읽은 뒤 그 키에 set/invalidate 가 없었을 때만 저장한다.
+    <T> boolean compareAndSet(String key, long stamp, T data);
+
+    void invalidate(String key);
+
+    // set, invalidate 가 일어날 때마다 증가한다.
+    long version();
+
+    record Stamped<T>(
+        T data,
+        long stamp
+    ) {
+    }
 }
@@ -0,0 +1,58 @@
+package com.musinsa.assignment.product.application.contract;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface PriceHistoryRepository {
+
+    void appendAll(List<PriceChange> changes);
+
+    // takenAt 이 until 이전인 가장 최근 스냅샷
+    Optional<Snapshot> findLatestSnapshot(LocalDateTime until);
+
+    void findSnapshotProducts(long snapshotId, Consumer<Product> consumer);
+
+    // snapshotId 까지의 스냅샷에 반영되지 않은 변경 중 from(미포함) ~ until(포함) 사이의 것을 발생 순서대로 전달한다.
+    // snapshotId 가 null 이면 모든 변경, from 이 null 이면 처음부터.
+    void findChanges(Long snapshotId, LocalDateTime from, LocalDateTime until, Consumer<PriceChange> consumer);
+
+    // 현재 트랜잭션이 끝날 때까지 다른 스냅샷 생성을 막는다.
+    void lockSnapshots();
+
+    boolean existsUnsnapshottedChanges(LocalDateTime until);
+
+    // 스냅샷을 만들고, 아직 어느 스냅샷에도 반영되지 않은 takenAt 이전의 변경을 이 스냅샷에 반영된 것으로 표시한다.
+    long createSnapshot(LocalDateTime takenAt);
+
+    // createSnapshot 이 이 스냅샷에 반영된 것으로 표시한 변경을 발생 순서대로 전달한다.
+    void findSnapshotChanges(long snapshotId, Consumer<PriceChange> consumer);
+
+    void saveSnapshotProducts(long snapshotId, ProductCatalog catalog);
+
+    // 가격은 직전 가격과의 차이(priceDelta)만 기록한다. 상품 추가(SAVED)는 0 에서의 차이다.
+    record PriceChange(
+        Long productId,
+        Long brandId,
+        Category category,
+        int priceDelta,
+        ChangeType type,
+        LocalDateTime changedAt
+    ) {
+    }
+
+    enum ChangeType {
+        SAVED,
+        UPDATED,
+        REMOVED
+    }
+
+    record Snapshot(
+        long id,
+        LocalDateTime takenAt
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.musinsa.assignment.product.application.contract;
+
+import com.musinsa.assignment.product.domain.Product;
+
+// write-behind 로 받은 가격 수정을 DB 반영 전까지 보관하는 로컬 저널.
+// 기록은 세그먼트 단위로 나뉘며, DB 반영이 끝난 세그먼트만 지운다.
+public interface PriceUpdateJournal {
+
+    // 반환 시점에 디스크에 기록돼 있어야 한다.
+    void appendUpdate(Product product, int basePrice);
+
+    void appendDrop(Long productId);
+
+    // 현재 세그먼트를 닫고 새 세그먼트로 넘어간 뒤, 닫은 세그먼트 번호를 반환한다.
+    long seal();
+
+    // sequence 이하의 닫힌 세그먼트를 지운다.
+    void delete(long sequence);
+
+    // 남아 있는 모든 세그먼트를 기록 순서대로 전달한다.
+    void replay(Visitor visitor);
+
+    interface Visitor {
+
+        void update(Product product, int basePrice);
+
+        void drop(Long productId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.musinsa.assignment.product.application.contract;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public interface ProductCatalog {
+
+    void put(Product product);
+
+    void remove(Long productId);
+
+    Optional<Product> findById(Long productId);
+
+    int size();
+
+    int slotCount();
+
+    // put/remove 로 내용이 바뀔 때마다 증가한다.
+    long version();
+
+    // read 안에서만 호출한다. visitor 에 전달되는 View 는 재사용되므로 밖으로 보관하지 않는다.
+    void scan(int fromSlot, int toSlot, Consumer<View> visitor);
+
+    <R> R read(Supplier<R> reader);
+
+    interface View {
+
+        long id();
+
+        long brandId();
+
+        Category category();
+
+        int price();
+
+        default Product toProduct() {
+            return new Product(
+                id(),
+                brandId(),
+                category(),
+                price()
+            );
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.musinsa.assignment.product.application.contract;
+
+public interface ProductCatalogFactory {
+
+    ProductCatalog create();
+}
@@ -4,17 +4,33 @@ import com.musinsa.assignment.product.domain.Product;
 import com.musinsa.assignment.product.domain.Product.Category;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface ProductRepository {
 
     Long save(Product product);
 
+    List<Long> saveAll(List<Product> products);
+
+    // 이미 존재하는 상품들을 한 번에 수정하고, 실제로 수정된 상품 id 를 반환한다.
+    List<Long> updateAll(List<Product> products);
+
     void delete(Product product);
 
     Optional<Product> findById(Long id);
 
     List<Product> findAllByBrandId(Long brandId);
 
+    void findAllByBrandId(Long brandId,
+                          BrandProductCursor after,
+                          int limit,
+                          Consumer<Product> consumer);
+
+    void findAll(Consumer<Product> consumer);
+
+    void findAllWithBrandName(BiConsumer<Product, String> consumer);
+
     Integer countByBrandAndCategory(Long brandId, Category category);
 
     List<Product> findMinPriceProductsByCategory();
@@ -23,4 +39,26 @@ public interface ProductRepository {
 
     List<Product> findAllByBrandMinPrice();
 
+    // 한 카테고리/브랜드만 다시 계산할 때 쓴다. 같은 가격이면 id 가 큰 상품을 고른다.
+    Optional<Product> findMinPriceProduct(Category category);
+
+    Optional<Product> findMaxPriceProduct(Category category);
+
+    // 브랜드의 카테고리 별 최저가 상품
+    List<Product> findBrandCategoryMinimums(Long brandId);
+
+    // 카테고리/가격 구간 검색. (가격, id) 순서로 after 이후의 상품을 limit 개까지 반환한다.
+    List<Product> searchByCategoryAndPrice(Category category,
+                                           int minPrice,
+                                           int maxPrice,
+                                           boolean descending,
+                                           ProductSearchIndex.Cursor after,
+                                           int limit);
+
+    record BrandProductCursor(
+        Category category,
+        int price,
+        long id
+    ) {
+    }
 }
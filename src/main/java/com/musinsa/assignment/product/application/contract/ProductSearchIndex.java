@@ -0,0 +1,25 @@
+package com.musinsa.assignment.product.application.contract;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+
+public interface ProductSearchIndex {
+
+    void put(Product product);
+
+    void remove(Long productId);
+
+    List<Product> search(Category category,
+                         int minPrice,
+                         int maxPrice,
+                         boolean descending,
+                         Cursor after,
+                         int limit);
+
+    record Cursor(
+        int price,
+        long id
+    ) {
+    }
+}
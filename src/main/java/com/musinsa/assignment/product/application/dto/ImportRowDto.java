@@ -0,0 +1,49 @@
+package com.musinsa.assignment.product.application.dto;
+
+import com.musinsa.assignment.product.application.dto.AddBrandDto.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.List;
+
+public record ImportRowDto(
+    long lineNumber,
+    Long brandId,
+    String brandName,
+    List<Product> products,
+    String error
+) {
+    public static ImportRowDto ofProduct(long lineNumber,
+                                         Long brandId,
+                                         Category category,
+                                         Integer price) {
+        return new ImportRowDto(
+            lineNumber,
+            brandId,
+            null,
+            List.of(new Product(category, price)),
+            null
+        );
+    }
+
+    public static ImportRowDto ofBrand(long lineNumber,
+                                       String brandName,
+                                       List<Product> products) {
+        return new ImportRowDto(
+            lineNumber,
+            null,
+            brandName,
+            products,
+            null
+        );
+    }
+
+    public static ImportRowDto invalid(long lineNumber,
+                                       String error) {
+        return new ImportRowDto(
+            lineNumber,
+            null,
+            null,
+            List.of(),
+            error
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.musinsa.assignment.product.application.dto;
+
+import com.musinsa.assignment.product.domain.Product.Category;
+
+public record SearchProductsDto(
+    Category category,
+    Integer minPrice,
+    Integer maxPrice,
+    boolean descending,
+    String cursor,
+    int size
+) {
+}
@@ -0,0 +1,10 @@
+package com.musinsa.assignment.product.application.exception;
+
+import com.musinsa.assignment.common.exception.ApplicationException;
+import com.musinsa.assignment.common.support.Status;
+
+public class InvalidCursorException extends ApplicationException {
+    public InvalidCursorException() {
+        super(Status.INVALID_CURSOR);
+    }
+}
@@ -1,71 +1,294 @@
 package com.musinsa.assignment.product.application.listener;
 
-import static java.util.stream.Collectors.toMap;
-
+import com.musinsa.assignment.common.support.TransactionHooks;
+import com.musinsa.assignment.product.application.aggregate.AggregateEngine;
 import com.musinsa.assignment.product.application.contract.CacheManager;
-import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.application.contract.CacheManager.Stamped;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
+import com.musinsa.assignment.product.application.listener.event.ProductBatchChangeEvent;
 import com.musinsa.assignment.product.application.listener.event.ProductChangeEvent;
+import com.musinsa.assignment.product.application.listener.event.ProductImportedEvent;
 import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+// 변경된 상품의 카테고리/브랜드에 해당하는 통계 캐시 키만 무효화한다.
+// 무효화된 키는 다음 조회 때 ProductQueryService 가 그 키만 다시 계산한다.
 @Component
 @RequiredArgsConstructor
 public class ProductEventListener {
-    private final ProductRepository productRepository;
+    private static final String BRAND_MIN_KEY = "BRAND:MIN";
+    private static final int MAX_CANDIDATE_BRANDS = 8;
+
+    private final AggregateEngine aggregateEngine;
+    private final ObjectProvider<ProductCatalog> productCatalog;
+    private final ObjectProvider<ProductSearchIndex> productSearchIndex;
     private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 트랜잭션 안의 변경은 모아 두었다가 커밋된 뒤 ProductBatchChangeEvent 하나로 발행하고, 트랜잭션 밖의 변경은 바로 발행한다.
+    // 같은 트랜잭션의 조회가 이전 통계를 읽지 않도록 카테고리 통계 키는 바로 무효화한다.
     @EventListener
     public void listen(ProductChangeEvent event) {
-        updateCategoryMinPrice();
-        updateCategoryMaxPrice();
-        updateBrandMinPrice();
-    }
-
-    private void updateCategoryMinPrice() {
-        var minProductMap = productRepository.findMinPriceProductsByCategory().stream()
-            .collect(toMap(
-                Product::getCategory,
-                Function.identity()
-            ));
-
-        minProductMap.keySet()
-            .forEach(category -> {
-                var key = "CATEGORY:MIN:" + category.name();
-                var minProduct = minProductMap.get(category);
-               cacheManager.set(key, minProduct);
-            });
-    }
-
-    private void updateCategoryMaxPrice() {
-        var maxProductMap = productRepository.findMaxPriceProductsByCategory().stream()
-            .collect(toMap(
-                Product::getCategory,
-                Function.identity()
-            ));
-
-        maxProductMap.keySet()
-            .forEach(category -> {
-                var key = "CATEGORY:MAX:" + category.name();
-                var maxProduct = maxProductMap.get(category);
-                cacheManager.set(key, maxProduct);
-            });
-    }
-
-    private void updateBrandMinPrice() {
-        var key = "BRAND:MIN";
-        var products = productRepository.findAllByBrandMinPrice();
-
-        if (!products.isEmpty()) {
-            cacheManager.set(key, new BrandMinCacheData(products));
+        if (event.refreshAggregates()) {
+            affectedCategoryKeys(List.of(event)).forEach(cacheManager::invalidate);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new ProductBatchChangeEvent(List.of(event)));
+            return;
+        }
+        var changes = pendingChanges();
+        changes.add(event);
+        // 그룹 커밋처럼 세이브포인트로 이 변경만 롤백되면 커밋 후 반영 대상에서 뺀다.
+        TransactionHooks.afterRollback(() -> {
+            changes.remove(event);
+            if (event.refreshAggregates()) {
+                affectedCategoryKeys(List.of(event)).forEach(cacheManager::invalidate);
+                cacheManager.invalidate(BRAND_MIN_KEY);
+            }
+        });
+    }
+
+    // 커밋된 변경을 카탈로그/검색 인덱스에 반영하고, 모든 변경을 합쳐 통계 캐시 키를 한 번만 무효화한다.
+    // 일괄 등록의 변경은 통계 캐시를 건드리지 않고 등록이 끝난 뒤 ProductImportedEvent 로 한 번에 무효화한다.
+    @EventListener
+    public void listen(ProductBatchChangeEvent event) {
+        productCatalog.ifAvailable(catalog -> event.changes().forEach(change -> applyTo(catalog, change)));
+        productSearchIndex.ifAvailable(searchIndex -> event.changes().forEach(change -> applyTo(searchIndex, change)));
+
+        var changes = event.changes().stream()
+            .filter(ProductChangeEvent::refreshAggregates)
+            .collect(Collectors.toList());
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        var keys = affectedCategoryKeys(changes);
+        var brandMinImpact = brandMinImpactOf(changes);
+        if (brandMinImpact.recompute() || (brandMinImpact.affected() && !refreshBrandMinPrice(brandMinImpact))) {
+            keys.add(BRAND_MIN_KEY);
         }
+        keys.forEach(cacheManager::invalidate);
+    }
+
+    // 새 브랜드가 여럿 등록되므로 BRAND:MIN 은 후보만 비교하지 않고 다시 계산한다.
+    @EventListener
+    public void listen(ProductImportedEvent event) {
+        event.categories().forEach(category -> categoryKeys(category).forEach(cacheManager::invalidate));
+        cacheManager.invalidate(BRAND_MIN_KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductChangeEvent> pendingChanges() {
+        var pending = (List<ProductChangeEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        var changes = new ArrayList<ProductChangeEvent>();
+        TransactionSynchronizationManager.bindResource(this, changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(new ProductBatchChangeEvent(List.copyOf(changes)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ProductEventListener.this);
+                // 트랜잭션 안의 조회가 커밋되지 않은 데이터로 채웠을 수 있는 키를 지운다.
+                if (status != STATUS_COMMITTED) {
+                    affectedCategoryKeys(changes).forEach(cacheManager::invalidate);
+                    cacheManager.invalidate(BRAND_MIN_KEY);
+                }
+            }
+        });
+        return changes;
+    }
+
+    private Set<String> affectedCategoryKeys(List<ProductChangeEvent> changes) {
+        var keys = new LinkedHashSet<String>();
+        changes.stream()
+            .flatMap(change -> Stream.concat(change.previousProducts().stream(), change.savedProducts().stream()))
+            .map(Product::getCategory)
+            .distinct()
+            .forEach(category -> keys.addAll(categoryKeys(category)));
+        return keys;
+    }
+
+    private List<String> categoryKeys(Category category) {
+        return List.of("CATEGORY:MIN:" + category.name(), "CATEGORY:MAX:" + category.name());
+    }
+
+    // 현재 가장 싼 브랜드의 상품이 바뀌었으면 전체를 다시 계산하고,
+    // 다른 브랜드의 합계가 줄어 가장 싼 브랜드가 될 수 있으면 그 브랜드들만 후보로 모은다.
+    private BrandMinImpact brandMinImpactOf(List<ProductChangeEvent> changes) {
+        var stamped = cacheManager.getStamped(BRAND_MIN_KEY, BrandMinCacheData.class);
+        var cached = stamped.map(Stamped::data)
+            .map(BrandMinCacheData::products)
+            .orElse(List.of());
+        if (cached.isEmpty()) {
+            return BrandMinImpact.RECOMPUTE;
+        }
+
+        var cheapestBrandId = cached.get(0).getBrandId();
+        var cheapestTotal = totalPrice(cached);
+        // 같은 상품이 여러 번 바뀌었으면 가장 처음의 이전 상품과 비교한다.
+        var previousProducts = changes.stream()
+            .flatMap(change -> change.previousProducts().stream())
+            .collect(Collectors.toMap(Product::getId, Function.identity(), (first, second) -> first));
+        var savedProducts = changes.stream()
+            .flatMap(change -> change.savedProducts().stream())
+            .collect(Collectors.toList());
+
+        var changesCheapest = Stream.concat(previousProducts.values().stream(), savedProducts.stream())
+            .anyMatch(product -> product.getBrandId().equals(cheapestBrandId));
+        if (changesCheapest) {
+            return BrandMinImpact.RECOMPUTE;
+        }
+
+        // 브랜드/카테고리 별 상품은 하나 이상 남으므로 삭제나 가격 인상으로는 다른 브랜드의 합계가 줄지 않는다.
+        // 새 가격이 그 카테고리의 최저가가 되어 합계가 줄더라도 합계는 새 가격 + 나머지 카테고리 전체 최저가의 합 이상이다.
+        var categoryMinFloors = categoryMinFloors(changes);
+        var candidateBrandIds = savedProducts.stream()
+            .filter(product -> !isPriceIncrease(previousProducts, product)
+                && lowestPossibleTotal(product, categoryMinFloors) <= cheapestTotal)
+            .map(Product::getBrandId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return new BrandMinImpact(false, cached, stamped.get().stamp(), candidateBrandIds);
+    }
+
+    // 이번 변경과 관계없는 카테고리는 캐시된 최저가가 어느 브랜드의 최저가보다도 높지 않다.
+    // 변경된 카테고리나 캐시가 비어 있는 카테고리는 알 수 없으므로 0 으로 둔다.
+    private Map<Category, Integer> categoryMinFloors(List<ProductChangeEvent> changes) {
+        var changedCategories = changes.stream()
+            .flatMap(change -> Stream.concat(change.previousProducts().stream(), change.savedProducts().stream()))
+            .map(Product::getCategory)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(Category.class)));
+
+        var floors = new EnumMap<Category, Integer>(Category.class);
+        for (var category : Category.values()) {
+            floors.put(
+                category,
+                changedCategories.contains(category)
+                    ? 0
+                    : cacheManager.get("CATEGORY:MIN:" + category.name(), Product.class).map(Product::getPrice).orElse(0)
+            );
+        }
+        return floors;
+    }
+
+    private long lowestPossibleTotal(Product product, Map<Category, Integer> categoryMinFloors) {
+        var total = (long) product.getPrice();
+        for (var entry : categoryMinFloors.entrySet()) {
+            if (entry.getKey() != product.getCategory()) {
+                total += entry.getValue();
+            }
+        }
+        return total;
+    }
+
+    // 후보 브랜드의 합계만 구해 캐시된 가장 싼 브랜드와 비교한다.
+    // 후보 브랜드만 따로 구할 수 없거나 (가져오기처럼) 후보가 많아 다시 계산하는 편이 나으면 false 를 반환한다.
+    // 읽은 뒤 다른 커밋이 BRAND:MIN 을 바꿨으면 그 변경을 덮어쓰지 않도록 false 를 반환한다.
+    private boolean refreshBrandMinPrice(BrandMinImpact impact) {
+        if (impact.candidateBrandIds().size() > MAX_CANDIDATE_BRANDS) {
+            return false;
+        }
+
+        var cheapest = impact.cheapestProducts();
+        for (var brandId : impact.candidateBrandIds()) {
+            var candidate = aggregateEngine.computeBrandCategoryMinPrices(brandId);
+            if (candidate.isEmpty()) {
+                return false;
+            }
+            if (isCheaper(candidate.get(), cheapest)) {
+                cheapest = candidate.get();
+            }
+        }
+
+        if (cheapest != impact.cheapestProducts()) {
+            var products = cheapest.stream()
+                .sorted(Comparator.comparing(Product::getCategory))
+                .collect(Collectors.toList());
+            return cacheManager.compareAndSet(BRAND_MIN_KEY, impact.stamp(), new BrandMinCacheData(products));
+        }
+        return true;
+    }
+
+    // 합계가 같으면 브랜드 id 가 작은 쪽을 고른다. (카탈로그 통계 엔진과 같은 기준)
+    private boolean isCheaper(List<Product> candidate, List<Product> cheapest) {
+        if (candidate.isEmpty()) {
+            return false;
+        }
+        var candidateTotal = totalPrice(candidate);
+        var cheapestTotal = totalPrice(cheapest);
+        return candidateTotal < cheapestTotal
+            || (candidateTotal == cheapestTotal && candidate.get(0).getBrandId() < cheapest.get(0).getBrandId());
+    }
+
+    // SQL 통계는 카테고리 최저가가 같은 상품을 모두 담을 수 있으므로 카테고리 별로 한 번만 더한다.
+    private long totalPrice(List<Product> products) {
+        return products.stream()
+            .collect(Collectors.toMap(Product::getCategory, Product::getPrice, Math::min))
+            .values().stream()
+            .mapToLong(Integer::longValue)
+            .sum();
+    }
+
+    private boolean isPriceIncrease(Map<Long, Product> previousProducts, Product product) {
+        var previous = previousProducts.get(product.getId());
+        return previous != null
+            && previous.getBrandId().equals(product.getBrandId())
+            && previous.getCategory() == product.getCategory()
+            && previous.getPrice() <= product.getPrice();
+    }
+
+    private void applyTo(ProductCatalog catalog, ProductChangeEvent event) {
+        event.savedProducts().forEach(catalog::put);
+        event.removedProductIds().forEach(catalog::remove);
+    }
+
+    private void applyTo(ProductSearchIndex searchIndex, ProductChangeEvent event) {
+        event.savedProducts().forEach(searchIndex::put);
+        event.removedProductIds().forEach(searchIndex::remove);
     }
 
     public record BrandMinCacheData(
         List<Product> products
     ) {
     }
+
+    private record BrandMinImpact(
+        boolean recompute,
+        List<Product> cheapestProducts,
+        long stamp,
+        Set<Long> candidateBrandIds
+    ) {
+        static final BrandMinImpact RECOMPUTE = new BrandMinImpact(true, List.of(), 0, Set.of());
+
+        boolean affected() {
+            return recompute || !candidateBrandIds.isEmpty();
+        }
+    }
 }
@@ -0,0 +1,9 @@
+package com.musinsa.assignment.product.application.listener.event;
+
+import java.util.List;
+
+// 한 트랜잭션에서 일어난 상품 변경을 커밋 순서대로 모은 이벤트다. 트랜잭션이 커밋된 뒤에 한 번 발행된다.
+public record ProductBatchChangeEvent(
+    List<ProductChangeEvent> changes
+) {
+}
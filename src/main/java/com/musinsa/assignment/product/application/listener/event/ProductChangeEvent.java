@@ -1,6 +1,53 @@
 package com.musinsa.assignment.product.application.listener.event;
 
-public record ProductChangeEvent(
+import com.musinsa.assignment.product.domain.Product;
+import java.util.List;
 
+// previousProducts 는 수정/삭제 전 상품이다. 새 상품은 없다.
+// refreshAggregates 가 false 면 카탈로그/검색 인덱스에만 반영하고 통계 캐시는 ProductImportedEvent 때 한 번에 무효화한다.
+public record ProductChangeEvent(
+    List<Product> savedProducts,
+    List<Long> removedProductIds,
+    List<Product> previousProducts,
+    boolean refreshAggregates
 ) {
+    public static ProductChangeEvent saved(Product product) {
+        return saved(List.of(product));
+    }
+
+    public static ProductChangeEvent saved(List<Product> products) {
+        return new ProductChangeEvent(
+            products,
+            List.of(),
+            List.of(),
+            true
+        );
+    }
+
+    public static ProductChangeEvent imported(List<Product> products) {
+        return new ProductChangeEvent(
+            products,
+            List.of(),
+            List.of(),
+            false
+        );
+    }
+
+    public static ProductChangeEvent updated(Product previousProduct, Product product) {
+        return new ProductChangeEvent(
+            List.of(product),
+            List.of(),
+            List.of(previousProduct),
+            true
+        );
+    }
+
+    public static ProductChangeEvent removed(Product product) {
+        return new ProductChangeEvent(
+            List.of(),
+            List.of(product.getId()),
+            List.of(product),
+            true
+        );
+    }
 }
@@ -0,0 +1,10 @@
+package com.musinsa.assignment.product.application.listener.event;
+
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.Set;
+
+// 일괄 등록이 끝난 뒤 한 번 발행된다. 등록된 상품의 카테고리 통계와 브랜드 통계를 한 번에 무효화한다.
+public record ProductImportedEvent(
+    Set<Category> categories
+) {
+}
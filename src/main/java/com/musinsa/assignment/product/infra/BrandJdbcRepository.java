@@ -1,5 +1,6 @@
 package com.musinsa.assignment.product.infra;
 
+import com.musinsa.assignment.common.support.TransactionHooks;
 import com.musinsa.assignment.product.application.contract.BrandRepository;
 import com.musinsa.assignment.product.domain.Brand;
 import java.sql.ResultSet;
@@ -7,6 +8,7 @@ import java.sql.SQLException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -19,6 +21,11 @@ import org.springframework.stereotype.Repository;
 public class BrandJdbcRepository implements BrandRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    // 커밋된 브랜드만 담는다. 브랜드는 삭제되지 않으므로 목록에 있으면 조회 없이 있는 브랜드로 판단하고,
+    // 목록에 없으면 (다른 인스턴스가 추가했거나 같은 트랜잭션에서 추가한 브랜드일 수 있으므로) 한 건만 조회한다.
+    private final Map<Long, Brand> brands = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
     @Override
     public Long save(Brand brand) {
         var keyHolder = new GeneratedKeyHolder();
@@ -30,24 +37,69 @@ public class BrandJdbcRepository implements BrandRepository {
             new MapSqlParameterSource("name", brand.getName()),
             keyHolder
         );
-        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+        var id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        register(new Brand(id, brand.getName()));
+        return id;
     }
 
     @Override
     public Optional<Brand> findById(Long id) {
-        var brand = jdbcTemplate.queryForObject(
-        """
+        if (id == null) {
+            return Optional.empty();
+        }
+        loadIfNecessary();
+        var brand = brands.get(id);
+        return brand != null ? Optional.of(brand) : selectById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (id == null) {
+            return false;
+        }
+        return findById(id).isPresent();
+    }
+
+    // 조회한 트랜잭션이 커밋돼야 그 브랜드도 커밋된 것이므로 그때 목록에 담는다.
+    private Optional<Brand> selectById(Long id) {
+        var brand = jdbcTemplate.query(
+            """
             SELECT id, name
             FROM brand
             WHERE id = :id
             """,
-            Map.of(
-                "id", id
-            ),
+            new MapSqlParameterSource("id", id),
             new BrandRowMapper()
-        );
+        ).stream().findFirst();
+        brand.ifPresent(this::register);
+        return brand;
+    }
 
-        return Optional.ofNullable(brand);
+    // 트랜잭션이나 (그룹 커밋의) 세이브포인트가 커밋되기 전에는 다른 요청에 보이지 않도록 커밋된 뒤에 담는다.
+    private void register(Brand brand) {
+        TransactionHooks.afterCommit(() -> brands.putIfAbsent(brand.getId(), brand));
+    }
+
+    private void loadIfNecessary() {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (brands) {
+            if (loaded) {
+                return;
+            }
+
+            jdbcTemplate.query(
+            """
+                SELECT id, name
+                FROM brand
+                """,
+                new BrandRowMapper()
+            ).forEach(brand -> brands.putIfAbsent(brand.getId(), brand));
+
+            loaded = true;
+        }
     }
 
     private static class BrandRowMapper implements RowMapper<Brand> {
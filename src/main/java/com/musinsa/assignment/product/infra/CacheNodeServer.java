@@ -0,0 +1,222 @@
+package com.musinsa.assignment.product.infra;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+// 여러 인스턴스가 통계 캐시를 공유하기 위한 작은 키-값 서버 (L2).
+// 한 줄 단위 텍스트 프로토콜을 쓴다.
+//   GET <key>                 -> VALUE <version> <stale 0|1> <payload> | NONE <version>
+//   SET <key> <payload>       -> OK <version>            (구독자에게 INVALIDATED <key> <version> 전송)
+//   LOAD <key> <base> <payload> -> OK <version> | CONFLICT (GET 으로 읽은 version 이 그대로일 때만 저장)
+//   INVALIDATE <key>          -> OK <version>            (구독자에게 INVALIDATED <key> <version> 전송)
+//   LEASE <key> <ttlMillis>   -> OK <token> | BUSY       (한 인스턴스만 재계산하도록 잠시 선점)
+//   RELEASE <key> <token>     -> OK                      (선점한 인스턴스가 계산을 마치거나 실패하면 반납)
+//   SUBSCRIBE                 -> 이후 이 연결로 INVALIDATED 메시지만 내려간다.
+// 값이 없는 키를 무효화해도 version 을 남겨, 무효화 전에 계산을 시작한 LOAD 를 거절한다.
+// 인증이 없으므로 같은 신뢰 네트워크 안의 인스턴스만 접근할 수 있는 주소에 바인드해야 한다.
+@Slf4j
+public class CacheNodeServer implements Closeable {
+    private final String bindAddress;
+    private final int port;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final List<BufferedWriter> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong version = new AtomicLong();
+    private final ExecutorService executor;
+
+    private volatile ServerSocket serverSocket;
+
+    public CacheNodeServer(String bindAddress, int port, int maxConnections) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        // 연결마다 스레드 하나를 쓰므로 연결 수만큼으로 묶고, 넘치는 연결은 바로 닫는다. (+1 은 accept 스레드)
+        this.executor = new ThreadPoolExecutor(
+            0,
+            maxConnections + 1,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            runnable -> {
+                var thread = new Thread(runnable, "cache-node");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    public void start() throws IOException {
+        var address = InetAddress.getByName(bindAddress);
+        if (!address.isLoopbackAddress()) {
+            log.warn("cache node has no authentication. bind only to a trusted network. bindAddress = {}", bindAddress);
+        }
+        serverSocket = new ServerSocket(port, 128, address);
+        executor.execute(this::accept);
+        log.info("cache node started. port = {}", serverSocket.getLocalPort());
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                var socket = serverSocket.accept();
+                try {
+                    executor.execute(() -> handle(socket));
+                } catch (RejectedExecutionException e) {
+                    log.warn("cache node connection rejected. too many connections");
+                    socket.close();
+                }
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("cache node accept failed. message = {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             var writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var parts = line.split(" ", 3);
+                if ("SUBSCRIBE".equals(parts[0])) {
+                    subscribe(reader, writer);
+                    return;
+                }
+                writer.write(execute(parts));
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.debug("cache node connection closed. message = {}", e.getMessage());
+        }
+    }
+
+    private String execute(String[] parts) {
+        return switch (parts[0]) {
+            case "GET" -> {
+                var entry = entries.get(parts[1]);
+                if (entry == null) {
+                    yield "NONE 0";
+                }
+                yield entry.payload() == null
+                    ? "NONE " + entry.version()
+                    : "VALUE " + entry.version() + " " + (entry.stale() ? 1 : 0) + " " + entry.payload();
+            }
+            case "SET" -> {
+                var newVersion = version.incrementAndGet();
+                entries.put(parts[1], new Entry(newVersion, false, parts[2]));
+                leases.remove(parts[1]);
+                publish(parts[1], newVersion);
+                yield "OK " + newVersion;
+            }
+            case "LOAD" -> {
+                var baseAndPayload = parts[2].split(" ", 2);
+                var baseVersion = Long.parseLong(baseAndPayload[0]);
+                var newVersion = version.incrementAndGet();
+                var stored = entries.compute(parts[1], (key, entry) -> (entry == null ? 0 : entry.version()) == baseVersion
+                    ? new Entry(newVersion, false, baseAndPayload[1])
+                    : entry);
+                if (stored == null || stored.version() != newVersion) {
+                    yield "CONFLICT";
+                }
+                leases.remove(parts[1]);
+                publish(parts[1], newVersion);
+                yield "OK " + newVersion;
+            }
+            case "INVALIDATE" -> {
+                var newVersion = version.incrementAndGet();
+                entries.compute(parts[1], (key, entry) -> new Entry(newVersion, true, entry == null ? null : entry.payload()));
+                publish(parts[1], newVersion);
+                yield "OK " + newVersion;
+            }
+            case "LEASE" -> {
+                var now = System.currentTimeMillis();
+                var lease = new Lease(version.incrementAndGet(), now + Long.parseLong(parts[2]));
+                var current = leases.compute(parts[1], (key, held) -> held == null || held.expiresAt() < now ? lease : held);
+                yield current == lease ? "OK " + lease.token() : "BUSY";
+            }
+            case "RELEASE" -> {
+                // 만료 뒤 다른 인스턴스가 새로 선점한 것은 풀지 않는다.
+                var token = Long.parseLong(parts[2]);
+                leases.computeIfPresent(parts[1], (key, held) -> held.token() == token ? null : held);
+                yield "OK";
+            }
+            default -> "ERROR unknown command";
+        };
+    }
+
+    private void subscribe(BufferedReader reader, BufferedWriter writer) throws IOException {
+        subscribers.add(writer);
+        try {
+            // 구독 연결은 클라이언트가 닫을 때까지 유지한다.
+            while (reader.readLine() != null) {
+            }
+        } finally {
+            subscribers.remove(writer);
+        }
+    }
+
+    private void publish(String key, long newVersion) {
+        var message = "INVALIDATED " + key + " " + newVersion;
+        for (var subscriber : subscribers) {
+            try {
+                synchronized (subscriber) {
+                    subscriber.write(message);
+                    subscriber.newLine();
+                    subscriber.flush();
+                }
+            } catch (IOException e) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private record Lease(
+        long token,
+        long expiresAt
+    ) {
+    }
+
+    private record Entry(
+        long version,
+        boolean stale,
+        String payload
+    ) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.musinsa.assignment.product.infra;
+
+import java.util.Arrays;
+
+public class ColumnarProductCatalog extends SlottedProductCatalog {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] ids;
+    private long[] brandIds;
+    private byte[] categories;
+    private int[] prices;
+
+    public ColumnarProductCatalog() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ColumnarProductCatalog(int initialCapacity) {
+        var capacity = Math.max(initialCapacity, 16);
+        this.ids = new long[capacity];
+        this.brandIds = new long[capacity];
+        this.categories = new byte[capacity];
+        this.prices = new int[capacity];
+    }
+
+    @Override
+    protected int capacity() {
+        return ids.length;
+    }
+
+    @Override
+    protected void grow() {
+        var capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        brandIds = Arrays.copyOf(brandIds, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+    }
+
+    @Override
+    protected long idAt(int slot) {
+        return ids[slot];
+    }
+
+    @Override
+    protected long brandIdAt(int slot) {
+        return brandIds[slot];
+    }
+
+    @Override
+    protected byte categoryAt(int slot) {
+        return categories[slot];
+    }
+
+    @Override
+    protected int priceAt(int slot) {
+        return prices[slot];
+    }
+
+    @Override
+    protected void write(int slot, long id, long brandId, byte category, int price) {
+        ids[slot] = id;
+        brandIds[slot] = brandId;
+        categories[slot] = category;
+        prices[slot] = price;
+    }
+
+    @Override
+    protected void markRemoved(int slot) {
+        categories[slot] = REMOVED;
+    }
+
+    @Override
+    protected void move(int fromSlot, int toSlot, int length) {
+        System.arraycopy(ids, fromSlot, ids, toSlot, length);
+        System.arraycopy(brandIds, fromSlot, brandIds, toSlot, length);
+        System.arraycopy(categories, fromSlot, categories, toSlot, length);
+        System.arraycopy(prices, fromSlot, prices, toSlot, length);
+    }
+}
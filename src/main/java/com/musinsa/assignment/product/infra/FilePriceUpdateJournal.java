@@ -0,0 +1,167 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.application.contract.PriceUpdateJournal;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+// 세그먼트 파일(price-updates-<sequence>.log)에 한 줄씩 기록한다.
+//   U,<productId>,<brandId>,<category>,<price>,<basePrice>,E
+//   D,<productId>,E
+// 끝의 E 로 장애 직전에 잘린 줄을 구분한다.
+// 기록할 때마다 force 하므로 append 가 반환되면 장애가 나도 재시작 시 재생된다.
+@Slf4j
+public class FilePriceUpdateJournal implements PriceUpdateJournal, Closeable {
+    private static final String PREFIX = "price-updates-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private FileChannel current;
+    private long sequence;
+
+    public FilePriceUpdateJournal(Path directory) {
+        try {
+            this.directory = Files.createDirectories(directory);
+            this.sequence = segments().stream()
+                .mapToLong(this::sequenceOf)
+                .max()
+                .orElse(0);
+            this.current = open(++sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void appendUpdate(Product product, int basePrice) {
+        write(
+            "U," + product.getId()
+                + "," + product.getBrandId()
+                + "," + product.getCategory().name()
+                + "," + product.getPrice()
+                + "," + basePrice
+                + ",E\n"
+        );
+    }
+
+    @Override
+    public synchronized void appendDrop(Long productId) {
+        write("D," + productId + ",E\n");
+    }
+
+    @Override
+    public synchronized long seal() {
+        try {
+            current.close();
+            var sealed = sequence;
+            current = open(++sequence);
+            return sealed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(long sequence) {
+        for (var segment : segments()) {
+            if (sequenceOf(segment) <= sequence) {
+                try {
+                    Files.deleteIfExists(segment);
+                } catch (IOException e) {
+                    log.warn("journal segment delete failed. segment = {}, message = {}", segment, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void replay(Visitor visitor) {
+        for (var segment : segments()) {
+            try (var lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+                lines.forEach(line -> replay(line, visitor));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        current.close();
+    }
+
+    private void replay(String line, Visitor visitor) {
+        var fields = line.split(",");
+        if (!"E".equals(fields[fields.length - 1])) {
+            log.warn("journal line skipped. line = {}", line);
+            return;
+        }
+
+        try {
+            if ("U".equals(fields[0]) && fields.length == 7) {
+                visitor.update(
+                    new Product(
+                        Long.parseLong(fields[1]),
+                        Long.parseLong(fields[2]),
+                        Category.valueOf(fields[3]),
+                        Integer.parseInt(fields[4])
+                    ),
+                    Integer.parseInt(fields[5])
+                );
+            } else if ("D".equals(fields[0]) && fields.length == 3) {
+                visitor.drop(Long.parseLong(fields[1]));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("journal line skipped. line = {}", line);
+        }
+    }
+
+    private void write(String record) {
+        try {
+            var buffer = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                current.write(buffer);
+            }
+            current.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FileChannel open(long sequence) throws IOException {
+        return FileChannel.open(
+            directory.resolve(PREFIX + String.format("%019d", sequence) + SUFFIX),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND
+        );
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long sequenceOf(Path segment) {
+        var name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.musinsa.assignment.product.infra;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// 상품 하나를 24 byte 고정 폭 레코드(id 8, brandId 8, price 4, category 1, padding 3)로
+// direct ByteBuffer 에 저장한다. 하나의 ByteBuffer 는 2GB 를 넘을 수 없어 chunk 단위로 나눠 할당한다.
+public class OffHeapProductCatalog extends SlottedProductCatalog {
+    private static final int RECORD_SIZE = 24;
+    private static final int ID_OFFSET = 0;
+    private static final int BRAND_ID_OFFSET = 8;
+    private static final int PRICE_OFFSET = 16;
+    private static final int CATEGORY_OFFSET = 20;
+    private static final int DEFAULT_CHUNK_SHIFT = 20;
+    private static final int SCRATCH_SLOTS = 4096;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private final byte[] scratch = new byte[SCRATCH_SLOTS * RECORD_SIZE];
+    private ByteBuffer[] chunks;
+
+    public OffHeapProductCatalog() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    public OffHeapProductCatalog(int chunkShift) {
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = new ByteBuffer[0];
+    }
+
+    @Override
+    protected int capacity() {
+        return chunks.length << chunkShift;
+    }
+
+    @Override
+    protected void grow() {
+        chunks = Arrays.copyOf(chunks, chunks.length + 1);
+        chunks[chunks.length - 1] = ByteBuffer.allocateDirect(RECORD_SIZE << chunkShift)
+            .order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    protected long idAt(int slot) {
+        return chunkOf(slot).getLong(offsetOf(slot) + ID_OFFSET);
+    }
+
+    @Override
+    protected long brandIdAt(int slot) {
+        return chunkOf(slot).getLong(offsetOf(slot) + BRAND_ID_OFFSET);
+    }
+
+    @Override
+    protected byte categoryAt(int slot) {
+        return chunkOf(slot).get(offsetOf(slot) + CATEGORY_OFFSET);
+    }
+
+    @Override
+    protected int priceAt(int slot) {
+        return chunkOf(slot).getInt(offsetOf(slot) + PRICE_OFFSET);
+    }
+
+    @Override
+    protected void write(int slot, long id, long brandId, byte category, int price) {
+        var chunk = chunkOf(slot);
+        var offset = offsetOf(slot);
+        chunk.putLong(offset + ID_OFFSET, id);
+        chunk.putLong(offset + BRAND_ID_OFFSET, brandId);
+        chunk.putInt(offset + PRICE_OFFSET, price);
+        chunk.put(offset + CATEGORY_OFFSET, category);
+    }
+
+    @Override
+    protected void markRemoved(int slot) {
+        chunkOf(slot).put(offsetOf(slot) + CATEGORY_OFFSET, REMOVED);
+    }
+
+    // 겹치는 구간을 덮어쓰지 않도록 뒤로 옮길 때는 끝에서부터, 앞으로 옮길 때는 처음부터 scratch 크기씩 bulk 복사한다.
+    @Override
+    protected void move(int fromSlot, int toSlot, int length) {
+        if (fromSlot < toSlot) {
+            var remaining = length;
+            while (remaining > 0) {
+                var count = Math.min(remaining, SCRATCH_SLOTS);
+                remaining -= count;
+                copyOut(fromSlot + remaining, count);
+                copyIn(toSlot + remaining, count);
+            }
+        } else {
+            var copied = 0;
+            while (copied < length) {
+                var count = Math.min(length - copied, SCRATCH_SLOTS);
+                copyOut(fromSlot + copied, count);
+                copyIn(toSlot + copied, count);
+                copied += count;
+            }
+        }
+    }
+
+    private void copyOut(int slot, int count) {
+        var copied = 0;
+        while (copied < count) {
+            var current = slot + copied;
+            var length = Math.min(count - copied, slotsLeftInChunk(current));
+            chunkOf(current).get(offsetOf(current), scratch, copied * RECORD_SIZE, length * RECORD_SIZE);
+            copied += length;
+        }
+    }
+
+    private void copyIn(int slot, int count) {
+        var copied = 0;
+        while (copied < count) {
+            var current = slot + copied;
+            var length = Math.min(count - copied, slotsLeftInChunk(current));
+            chunkOf(current).put(offsetOf(current), scratch, copied * RECORD_SIZE, length * RECORD_SIZE);
+            copied += length;
+        }
+    }
+
+    private int slotsLeftInChunk(int slot) {
+        return (chunkMask + 1) - (slot & chunkMask);
+    }
+
+    private ByteBuffer chunkOf(int slot) {
+        return chunks[slot >>> chunkShift];
+    }
+
+    private int offsetOf(int slot) {
+        return (slot & chunkMask) * RECORD_SIZE;
+    }
+}
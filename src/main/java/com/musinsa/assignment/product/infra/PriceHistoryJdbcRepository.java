@@ -0,0 +1,254 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class PriceHistoryJdbcRepository implements PriceHistoryRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int SNAPSHOT_BATCH_SIZE = 1000;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    public PriceHistoryJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        var streamingTemplate = new JdbcTemplate(
+            Objects.requireNonNull(jdbcTemplate.getJdbcTemplate().getDataSource())
+        );
+        streamingTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    @Override
+    public void appendAll(List<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO product_price_history (product_id, brand_id, category, price_delta, change_type, changed_at)
+            VALUES (:productId, :brandId, :category, :priceDelta, :changeType, :changedAt)
+            """,
+            changes.stream()
+                .map(change -> new MapSqlParameterSource(Map.of(
+                    "productId", change.productId(),
+                    "brandId", change.brandId(),
+                    "category", change.category().name(),
+                    "priceDelta", change.priceDelta(),
+                    "changeType", change.type().name(),
+                    "changedAt", change.changedAt()
+                )))
+                .toArray(SqlParameterSource[]::new)
+        );
+    }
+
+    @Override
+    public Optional<Snapshot> findLatestSnapshot(LocalDateTime until) {
+        return jdbcTemplate.query(
+            """
+                SELECT id, taken_at
+                FROM product_snapshot
+                WHERE taken_at <= :until
+                ORDER BY taken_at DESC
+                LIMIT 1
+                """,
+            Map.of(
+                "until", until
+            ),
+            (rs, rowNum) -> new Snapshot(
+                rs.getLong("id"),
+                rs.getObject("taken_at", LocalDateTime.class)
+            )
+        ).stream().findFirst();
+    }
+
+    @Override
+    public void findSnapshotProducts(long snapshotId, Consumer<Product> consumer) {
+        streamingJdbcTemplate.query(
+            """
+                SELECT product_id, brand_id, category, price
+                FROM product_price_snapshot
+                WHERE snapshot_id = :snapshotId
+                ORDER BY product_id
+                """,
+            Map.of(
+                "snapshotId", snapshotId
+            ),
+            (RowCallbackHandler) rs -> consumer.accept(
+                new Product(
+                    rs.getLong("product_id"),
+                    rs.getLong("brand_id"),
+                    Category.valueOf(rs.getString("category")),
+                    rs.getInt("price")
+                )
+            )
+        );
+    }
+
+    @Override
+    public void findChanges(Long snapshotId, LocalDateTime from, LocalDateTime until, Consumer<PriceChange> consumer) {
+        var params = Map.of(
+            "snapshotId", snapshotId == null ? 0L : snapshotId,
+            "from", from == null ? BEGINNING : from,
+            "until", until
+        );
+
+        streamingJdbcTemplate.query(
+            """
+                SELECT product_id, brand_id, category, price_delta, change_type, changed_at
+                FROM product_price_history
+                WHERE changed_at > :from
+                AND changed_at <= :until
+                AND (snapshot_id IS NULL OR snapshot_id > :snapshotId)
+                ORDER BY changed_at, id
+                """,
+            params,
+            (RowCallbackHandler) rs -> consumer.accept(toPriceChange(rs))
+        );
+    }
+
+    @Override
+    public void lockSnapshots() {
+        jdbcTemplate.queryForObject(
+            """
+                SELECT id
+                FROM product_snapshot_lock
+                WHERE id = 1
+                FOR UPDATE
+                """,
+            Map.of(),
+            Long.class
+        );
+    }
+
+    @Override
+    public boolean existsUnsnapshottedChanges(LocalDateTime until) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            """
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM product_price_history
+                    WHERE snapshot_id IS NULL
+                    AND changed_at <= :until
+                )
+                """,
+            Map.of(
+                "until", until
+            ),
+            Boolean.class
+        ));
+    }
+
+    @Override
+    public long createSnapshot(LocalDateTime takenAt) {
+        var keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(
+            """
+            INSERT INTO product_snapshot (taken_at)
+            VALUES (:takenAt)
+            """,
+            new MapSqlParameterSource("takenAt", takenAt),
+            keyHolder
+        );
+        var snapshotId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+
+        jdbcTemplate.update(
+            """
+            UPDATE product_price_history
+            SET snapshot_id = :snapshotId
+            WHERE snapshot_id IS NULL
+            AND changed_at <= :takenAt
+            """,
+            Map.of(
+                "snapshotId", snapshotId,
+                "takenAt", takenAt
+            )
+        );
+        return snapshotId;
+    }
+
+    @Override
+    public void findSnapshotChanges(long snapshotId, Consumer<PriceChange> consumer) {
+        streamingJdbcTemplate.query(
+            """
+                SELECT product_id, brand_id, category, price_delta, change_type, changed_at
+                FROM product_price_history
+                WHERE snapshot_id = :snapshotId
+                ORDER BY changed_at, id
+                """,
+            Map.of(
+                "snapshotId", snapshotId
+            ),
+            (RowCallbackHandler) rs -> consumer.accept(toPriceChange(rs))
+        );
+    }
+
+    @Override
+    public void saveSnapshotProducts(long snapshotId, ProductCatalog catalog) {
+        var batch = new ArrayList<SqlParameterSource>(SNAPSHOT_BATCH_SIZE);
+        catalog.read(() -> {
+            catalog.scan(0, catalog.slotCount(), view -> {
+                batch.add(new MapSqlParameterSource(Map.of(
+                    "snapshotId", snapshotId,
+                    "productId", view.id(),
+                    "brandId", view.brandId(),
+                    "category", view.category().name(),
+                    "price", view.price()
+                )));
+                if (batch.size() >= SNAPSHOT_BATCH_SIZE) {
+                    insertSnapshotProducts(batch);
+                    batch.clear();
+                }
+            });
+            return null;
+        });
+        insertSnapshotProducts(batch);
+    }
+
+    private PriceChange toPriceChange(ResultSet rs) throws SQLException {
+        return new PriceChange(
+            rs.getLong("product_id"),
+            rs.getLong("brand_id"),
+            Category.valueOf(rs.getString("category")),
+            rs.getInt("price_delta"),
+            ChangeType.valueOf(rs.getString("change_type")),
+            rs.getObject("changed_at", LocalDateTime.class)
+        );
+    }
+
+    private void insertSnapshotProducts(List<SqlParameterSource> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+            """
+            INSERT INTO product_price_snapshot (snapshot_id, product_id, brand_id, category, price)
+            VALUES (:snapshotId, :productId, :brandId, :category, :price)
+            """,
+            batch.toArray(SqlParameterSource[]::new)
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.musinsa.assignment.product.infra;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// statements 의 키는 ProductJdbcRepository 의 문장 이름(메서드 이름)이다. 설정이 없는 문장은 드라이버 기본값을 쓴다.
+@ConfigurationProperties(prefix = "application.jdbc")
+public record ProductJdbcProperties(
+    Duration slowQueryThreshold,
+    Map<String, StatementProperties> statements
+) {
+    public static final ProductJdbcProperties DEFAULT = new ProductJdbcProperties(null, null);
+
+    public ProductJdbcProperties {
+        if (slowQueryThreshold == null) {
+            slowQueryThreshold = Duration.ofMillis(500);
+        }
+        if (statements == null) {
+            statements = Map.of();
+        }
+    }
+
+    public StatementProperties statement(String name) {
+        return statements.get(name);
+    }
+
+    public record StatementProperties(
+        Duration timeout,
+        Integer fetchSize
+    ) {
+        void applyTo(PreparedStatement ps) throws SQLException {
+            if (timeout != null) {
+                // JDBC 타임아웃은 초 단위이므로 올림한다.
+                ps.setQueryTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+            }
+            if (fetchSize != null) {
+                ps.setFetchSize(fetchSize);
+            }
+        }
+    }
+}
@@ -1,26 +1,351 @@
 package com.musinsa.assignment.product.infra;
 
 import com.musinsa.assignment.product.application.contract.ProductRepository;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
 import com.musinsa.assignment.product.domain.Product;
 import com.musinsa.assignment.product.domain.Product.Category;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
-import org.springframework.dao.EmptyResultDataAccessException;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.stereotype.Repository;
 
+// 자주 호출되는 단건 문장은 named 파라미터 치환 없이 미리 만들어 둔 PreparedStatementCreatorFactory 로 실행하고,
+// spring.jmx.enabled=true 이면 문장 별 실행 횟수/시간을 JMX(com.musinsa.assignment:type=ProductJdbcRepository)로 노출한다.
+// 문장 별 타임아웃/fetch size 는 application.jdbc.statements 로 정하고, 기준 시간을 넘긴 문장은 SlowQueryLog 가 남긴다.
 @Repository
-@RequiredArgsConstructor
+@ManagedResource(objectName = "com.musinsa.assignment:type=ProductJdbcRepository")
 public class ProductJdbcRepository implements ProductRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = new ProductRowMapper();
+    private static final RowMapper<Integer> INTEGER_ROW_MAPPER = SingleColumnRowMapper.newInstance(Integer.class);
+
+    private static final Statement INSERT = Statement.returningKey(
+        "insert",
+        """
+        INSERT INTO product (brand_id, category, price)
+        VALUES (?, ?, ?)
+        """,
+        Types.BIGINT, Types.VARCHAR, Types.INTEGER
+    );
+
+    private static final Statement UPDATE = Statement.of(
+        "update",
+        """
+        UPDATE product
+        SET brand_id = ?, category = ?, price = ?
+        WHERE id = ?
+        """,
+        Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.BIGINT
+    );
+
+    private static final Statement DELETE = Statement.of(
+        "delete",
+        """
+        DELETE FROM product
+        WHERE id = ?
+        """,
+        Types.BIGINT
+    );
+
+    private static final Statement FIND_BY_ID = Statement.of(
+        "findById",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE id = ?
+        """,
+        Types.BIGINT
+    );
+
+    private static final Statement FIND_ALL_BY_BRAND_ID = Statement.of(
+        "findAllByBrandId",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE brand_id = ?
+        """,
+        Types.BIGINT
+    );
+
+    private static final Statement COUNT_BY_BRAND_AND_CATEGORY = Statement.of(
+        "countByBrandAndCategory",
+        """
+        SELECT COUNT(*)
+        FROM product
+        WHERE brand_id = ?
+        AND category = ?
+        """,
+        Types.BIGINT, Types.VARCHAR
+    );
+
+    private static final Statement FIND_MIN_PRICE_PRODUCTS_BY_CATEGORY = Statement.of(
+        "findMinPriceProductsByCategory",
+        """
+        SELECT
+            p.id as id,
+            p.brand_id as brand_id,
+            p.category as category,
+            p.price as price
+        FROM product p
+        JOIN
+            (SELECT
+                category,
+                MAX(id) AS min_product_id
+            FROM
+                product
+            WHERE
+                (category, price) IN (
+                    SELECT
+                        category,
+                        MIN(price)
+                    FROM
+                        product
+                    GROUP BY
+                        category
+                )
+            GROUP BY
+                category
+            ) min_products
+        ON p.id = min_products.min_product_id
+        """
+    );
+
+    private static final Statement FIND_MAX_PRICE_PRODUCTS_BY_CATEGORY = Statement.of(
+        "findMaxPriceProductsByCategory",
+        """
+        SELECT
+            p.id as id,
+            p.brand_id as brand_id,
+            p.category as category,
+            p.price as price
+        FROM product p
+        JOIN
+            (SELECT
+                category,
+                MAX(id) AS max_product_id
+            FROM
+                product
+            WHERE
+                (category, price) IN (
+                    SELECT
+                        category,
+                        MAX(price)
+                    FROM
+                        product
+                    GROUP BY
+                        category
+                )
+            GROUP BY
+                category
+            ) max_products
+        ON p.id = max_products.max_product_id
+        """
+    );
+
+    private static final Statement FIND_ALL_BY_BRAND_MIN_PRICE = Statement.of(
+        "findAllByBrandMinPrice",
+        """
+        SELECT
+            p.id as id,
+            p.brand_id as brand_id,
+            p.category as category,
+            p.price as price
+        FROM
+             product p
+        JOIN (
+             SELECT
+                 brand_id,
+                 category,
+                 MIN(price) AS min_price
+             FROM
+                 product
+             GROUP BY
+                 brand_id,
+                 category
+        ) AS bmp ON p.brand_id = bmp.brand_id
+                AND p.category = bmp.category
+                AND p.price = bmp.min_price
+        JOIN (
+            SELECT
+                brand_id,
+                SUM(min_price) AS total_min_price
+            FROM (
+                SELECT
+                    brand_id,
+                    category,
+                    MIN(price) AS min_price
+                FROM
+                    product
+                GROUP BY
+                    brand_id,
+                    category
+            ) AS brand_min_prices
+            GROUP BY
+                brand_id
+            ORDER BY
+                total_min_price
+            LIMIT 1
+        ) AS cb ON p.brand_id = cb.brand_id
+        """
+    );
+
+    private static final Statement FIND_MIN_PRICE_PRODUCT = Statement.of(
+        "findMinPriceProduct",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE category = ?
+        AND price = (
+            SELECT price
+            FROM product
+            WHERE category = ?
+            ORDER BY price
+            LIMIT 1
+        )
+        ORDER BY id DESC
+        LIMIT 1
+        """,
+        Types.VARCHAR, Types.VARCHAR
+    );
+
+    private static final Statement FIND_MAX_PRICE_PRODUCT = Statement.of(
+        "findMaxPriceProduct",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE category = ?
+        ORDER BY price DESC, id DESC
+        LIMIT 1
+        """,
+        Types.VARCHAR
+    );
+
+    private static final Statement FIND_BRAND_CATEGORY_MINIMUMS = Statement.of(
+        "findBrandCategoryMinimums",
+        """
+        SELECT id, brand_id, category, price
+        FROM (
+            SELECT
+                id,
+                brand_id,
+                category,
+                price,
+                ROW_NUMBER() OVER (PARTITION BY category ORDER BY price, id DESC) AS price_rank
+            FROM product
+            WHERE brand_id = ?
+        ) ranked
+        WHERE price_rank = 1
+        """,
+        Types.BIGINT
+    );
+
+    private static final Statement SEARCH_BY_CATEGORY_AND_PRICE = Statement.of(
+        "searchByCategoryAndPrice",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE category = ?
+        AND price BETWEEN ? AND ?
+        ORDER BY price, id
+        LIMIT ?
+        """,
+        Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER
+    );
+
+    private static final Statement SEARCH_BY_CATEGORY_AND_PRICE_AFTER = Statement.of(
+        "searchByCategoryAndPriceAfter",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE category = ?
+        AND price BETWEEN ? AND ?
+        AND (price, id) > (?, ?)
+        ORDER BY price, id
+        LIMIT ?
+        """,
+        Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.INTEGER
+    );
+
+    private static final Statement SEARCH_BY_CATEGORY_AND_PRICE_DESC = Statement.of(
+        "searchByCategoryAndPriceDesc",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE category = ?
+        AND price BETWEEN ? AND ?
+        ORDER BY price DESC, id DESC
+        LIMIT ?
+        """,
+        Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER
+    );
+
+    private static final Statement SEARCH_BY_CATEGORY_AND_PRICE_DESC_AFTER = Statement.of(
+        "searchByCategoryAndPriceDescAfter",
+        """
+        SELECT id, brand_id, category, price
+        FROM product
+        WHERE category = ?
+        AND price BETWEEN ? AND ?
+        AND (price, id) < (?, ?)
+        ORDER BY price DESC, id DESC
+        LIMIT ?
+        """,
+        Types.VARCHAR, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.INTEGER
+    );
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+    private final JdbcOperations jdbcOperations;
+    private final StatementMetrics statementMetrics = new StatementMetrics();
+    private final ProductJdbcProperties properties;
+    private final SlowQueryLog slowQueryLog;
+
+    public ProductJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, ProductJdbcProperties.DEFAULT);
+    }
+
+    @Autowired
+    public ProductJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, ProductJdbcProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcOperations = jdbcTemplate.getJdbcOperations();
+        this.properties = properties;
+        this.slowQueryLog = new SlowQueryLog(jdbcOperations, properties.slowQueryThreshold());
+
+        var streamingTemplate = new JdbcTemplate(
+            Objects.requireNonNull(jdbcTemplate.getJdbcTemplate().getDataSource())
+        );
+        streamingTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
 
     @Override
     public Long save(Product product) {
@@ -31,226 +356,327 @@ public class ProductJdbcRepository implements ProductRepository {
         }
     }
 
-    private Long insert(Product product) {
+    @Override
+    public List<Long> saveAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
         var keyHolder = new GeneratedKeyHolder();
-        jdbcTemplate.update(
-        """
+        jdbcTemplate.batchUpdate(
+            """
             INSERT INTO product (brand_id, category, price)
             VALUES (:brandId, :category, :price)
             """,
-            new MapSqlParameterSource(Map.of(
-                "brandId", product.getBrandId(),
-                "category", product.getCategory().name(),
-                "price", product.getPrice()
-            )),
+            products.stream()
+                .map(product -> new MapSqlParameterSource(Map.of(
+                    "brandId", product.getBrandId(),
+                    "category", product.getCategory().name(),
+                    "price", product.getPrice()
+                )))
+                .toArray(SqlParameterSource[]::new),
             keyHolder
         );
-        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+
+        return keyHolder.getKeyList().stream()
+            .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+            .collect(Collectors.toList());
     }
 
-    private Long update(Product product) {
-        jdbcTemplate.update(
+    @Override
+    public List<Long> updateAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        var counts = jdbcTemplate.batchUpdate(
             """
             UPDATE product
             SET brand_id = :brandId, category = :category, price = :price
             WHERE id = :id
             """,
-            new MapSqlParameterSource(Map.of(
-                "brandId", product.getBrandId(),
-                "category", product.getCategory().name(),
-                "price", product.getPrice(),
-                "id", product.getId()
-            ))
+            products.stream()
+                .map(product -> new MapSqlParameterSource(Map.of(
+                    "brandId", product.getBrandId(),
+                    "category", product.getCategory().name(),
+                    "price", product.getPrice(),
+                    "id", product.getId()
+                )))
+                .toArray(SqlParameterSource[]::new)
+        );
+
+        var updatedIds = new ArrayList<Long>(products.size());
+        for (var i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                updatedIds.add(products.get(i).getId());
+            }
+        }
+        return updatedIds;
+    }
+
+    private Long insert(Product product) {
+        var keyHolder = new GeneratedKeyHolder();
+        update(
+            INSERT,
+            keyHolder,
+            product.getBrandId(), product.getCategory().name(), product.getPrice()
+        );
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private Long update(Product product) {
+        update(
+            UPDATE,
+            null,
+            product.getBrandId(), product.getCategory().name(), product.getPrice(), product.getId()
         );
         return product.getId();
     }
 
     @Override
     public void delete(Product product) {
-        jdbcTemplate.update(
-            """
-            DELETE FROM product
-            WHERE id = :id
-            """,
-            Map.of(
-                "id", product.getId()
-            )
-        );
+        update(DELETE, null, product.getId());
     }
 
     @Override
     public Optional<Product> findById(Long id) {
-        try {
-            var brand = jdbcTemplate.queryForObject(
+        return query(FIND_BY_ID, PRODUCT_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Product> findAllByBrandId(Long brandId) {
+        return query(FIND_ALL_BY_BRAND_ID, PRODUCT_ROW_MAPPER, brandId);
+    }
+
+    @Override
+    public void findAllByBrandId(Long brandId,
+                                 BrandProductCursor after,
+                                 int limit,
+                                 Consumer<Product> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(PRODUCT_ROW_MAPPER.mapRow(rs, rs.getRow()));
+
+        if (after == null) {
+            streamingJdbcTemplate.query(
                 """
                     SELECT id, brand_id, category, price
                     FROM product
-                    WHERE id = :id
+                    WHERE brand_id = :brandId
+                    ORDER BY category, price, id
+                    LIMIT :limit
                     """,
                 Map.of(
-                    "id", id
+                    "brandId", brandId,
+                    "limit", limit
                 ),
-                new ProductRowMapper()
+                handler
             );
-            return Optional.ofNullable(brand);
-        } catch (EmptyResultDataAccessException e) {
-            return Optional.empty();
+            return;
         }
-    }
 
-    @Override
-    public List<Product> findAllByBrandId(Long brandId) {
-        return jdbcTemplate.query(
+        streamingJdbcTemplate.query(
             """
                 SELECT id, brand_id, category, price
                 FROM product
                 WHERE brand_id = :brandId
+                AND (category, price, id) > (:category, :price, :id)
+                ORDER BY category, price, id
+                LIMIT :limit
                 """,
             Map.of(
-                "brandId", brandId
+                "brandId", brandId,
+                "category", after.category().name(),
+                "price", after.price(),
+                "id", after.id(),
+                "limit", limit
             ),
-            new ProductRowMapper()
+            handler
         );
     }
 
     @Override
-    public Integer countByBrandAndCategory(Long brandId, Category category) {
-        return jdbcTemplate.queryForObject(
-        """
-            SELECT COUNT(*)
-            FROM product
-            WHERE brand_id = :brandId
-            AND category = :category
-            """,
-            Map.of(
-                "brandId", brandId,
-                "category", category.name()
-            ),
-            Integer.class
+    public void findAll(Consumer<Product> consumer) {
+        streamingJdbcTemplate.query(
+            """
+                SELECT id, brand_id, category, price
+                FROM product
+                ORDER BY id
+                """,
+            (RowCallbackHandler) rs -> consumer.accept(PRODUCT_ROW_MAPPER.mapRow(rs, rs.getRow()))
         );
     }
 
     @Override
-    public List<Product> findMinPriceProductsByCategory() {
-        return jdbcTemplate.query(
+    public void findAllWithBrandName(BiConsumer<Product, String> consumer) {
+        streamingJdbcTemplate.query(
             """
-            SELECT
-                p.id as id,
-                p.brand_id as brand_id,
-                p.category as category,
-                p.price as price
-            FROM product p
-            JOIN
-                (SELECT
-                    category,
-                    MAX(id) AS min_product_id
-                FROM
-                    product
-                WHERE
-                    (category, price) IN (
-                        SELECT
-                            category,
-                            MIN(price)
-                        FROM
-                            product
-                        GROUP BY
-                            category
-                    )
-                GROUP BY
-                    category
-                ) min_products
-            ON p.id = min_products.min_product_id
-            """,
-            new ProductRowMapper()
+                SELECT
+                    p.id as id,
+                    p.brand_id as brand_id,
+                    p.category as category,
+                    p.price as price,
+                    b.name as brand_name
+                FROM product p
+                JOIN brand b ON b.id = p.brand_id
+                ORDER BY p.id
+                """,
+            (RowCallbackHandler) rs -> consumer.accept(
+                PRODUCT_ROW_MAPPER.mapRow(rs, rs.getRow()),
+                rs.getString("brand_name")
+            )
         );
     }
 
     @Override
-    public List<Product> findMaxPriceProductsByCategory() {
-        return jdbcTemplate.query(
-        """
-            SELECT
-                p.id as id,
-                p.brand_id as brand_id,
-                p.category as category,
-                p.price as price
-            FROM product p
-            JOIN
-                (SELECT
-                    category,
-                    MAX(id) AS max_product_id
-                FROM
-                    product
-                WHERE
-                    (category, price) IN (
-                        SELECT
-                            category,
-                            MAX(price)
-                        FROM
-                            product
-                        GROUP BY
-                            category
-                    )
-                GROUP BY
-                    category
-                ) max_products
-            ON p.id = max_products.max_product_id
-            """,
-            new ProductRowMapper()
+    public Integer countByBrandAndCategory(Long brandId, Category category) {
+        return DataAccessUtils.requiredSingleResult(
+            query(COUNT_BY_BRAND_AND_CATEGORY, INTEGER_ROW_MAPPER, brandId, category.name())
         );
     }
 
+    @Override
+    public List<Product> findMinPriceProductsByCategory() {
+        return query(FIND_MIN_PRICE_PRODUCTS_BY_CATEGORY, PRODUCT_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Product> findMaxPriceProductsByCategory() {
+        return query(FIND_MAX_PRICE_PRODUCTS_BY_CATEGORY, PRODUCT_ROW_MAPPER);
+    }
+
     @Override
     public List<Product> findAllByBrandMinPrice() {
-        return jdbcTemplate.query(
-        """
-            SELECT
-                p.id as id,
-                p.brand_id as brand_id,
-                p.category as category,
-                p.price as price
-            FROM
-                 product p
-            JOIN (
-                 SELECT
-                     brand_id,
-                     category,
-                     MIN(price) AS min_price
-                 FROM
-                     product
-                 GROUP BY
-                     brand_id,
-                     category
-            ) AS bmp ON p.brand_id = bmp.brand_id
-                    AND p.category = bmp.category
-                    AND p.price = bmp.min_price
-            JOIN (
-                SELECT
-                    brand_id,
-                    SUM(min_price) AS total_min_price
-                FROM (
-                    SELECT
-                        brand_id,
-                        category,
-                        MIN(price) AS min_price
-                    FROM
-                        product
-                    GROUP BY
-                        brand_id,
-                        category
-                ) AS brand_min_prices
-                GROUP BY
-                    brand_id
-                ORDER BY
-                    total_min_price
-                LIMIT 1
-            ) AS cb ON p.brand_id = cb.brand_id
-            """,
-            new ProductRowMapper()
+        return query(FIND_ALL_BY_BRAND_MIN_PRICE, PRODUCT_ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<Product> findMinPriceProduct(Category category) {
+        return query(FIND_MIN_PRICE_PRODUCT, PRODUCT_ROW_MAPPER, category.name(), category.name())
+            .stream().findFirst();
+    }
+
+    @Override
+    public Optional<Product> findMaxPriceProduct(Category category) {
+        return query(FIND_MAX_PRICE_PRODUCT, PRODUCT_ROW_MAPPER, category.name())
+            .stream().findFirst();
+    }
+
+    @Override
+    public List<Product> findBrandCategoryMinimums(Long brandId) {
+        return query(FIND_BRAND_CATEGORY_MINIMUMS, PRODUCT_ROW_MAPPER, brandId);
+    }
+
+    // idx_product_category_price (category, price, id) 를 커서 위치부터 limit 개만 읽는다.
+    @Override
+    public List<Product> searchByCategoryAndPrice(Category category,
+                                                  int minPrice,
+                                                  int maxPrice,
+                                                  boolean descending,
+                                                  ProductSearchIndex.Cursor after,
+                                                  int limit) {
+        if (after == null) {
+            return query(
+                descending ? SEARCH_BY_CATEGORY_AND_PRICE_DESC : SEARCH_BY_CATEGORY_AND_PRICE,
+                PRODUCT_ROW_MAPPER,
+                category.name(), minPrice, maxPrice, limit
+            );
+        }
+        return query(
+            descending ? SEARCH_BY_CATEGORY_AND_PRICE_DESC_AFTER : SEARCH_BY_CATEGORY_AND_PRICE_AFTER,
+            PRODUCT_ROW_MAPPER,
+            category.name(), minPrice, maxPrice, after.price(), after.id(), limit
+        );
+    }
+
+    public Map<String, StatementMetrics.Snapshot> statementMetrics() {
+        return statementMetrics.snapshot();
+    }
+
+    @ManagedAttribute(description = "문장 별 실행 횟수, 평균 실행 시간(us), 실패 횟수")
+    public Map<String, String> getStatementMetrics() {
+        var metrics = new TreeMap<String, String>();
+        statementMetrics().forEach((statement, snapshot) -> metrics.put(statement, snapshot.toString()));
+        return metrics;
+    }
+
+    // 느린 문장의 실행 계획을 남기는 스레드를 정리한다.
+    @PreDestroy
+    public void close() {
+        slowQueryLog.close();
+    }
+
+    private <T> List<T> query(Statement statement, RowMapper<T> rowMapper, Object... params) {
+        return execute(statement, params, creator -> jdbcOperations.query(creator, rowMapper));
+    }
+
+    private void update(Statement statement, GeneratedKeyHolder keyHolder, Object... params) {
+        execute(
+            statement,
+            params,
+            creator -> keyHolder == null
+                ? jdbcOperations.update(creator)
+                : jdbcOperations.update(creator, keyHolder)
         );
     }
 
-    private static class ProductRowMapper implements RowMapper<Product> {
+    private <T> T execute(Statement statement, Object[] params, Function<PreparedStatementCreator, T> work) {
+        var statementProperties = properties.statement(statement.name());
+        var creator = new ConfiguredStatementCreator(statement.creator(params), statementProperties);
+
+        var start = System.nanoTime();
+        var failed = true;
+        try {
+            var result = work.apply(creator);
+            failed = false;
+            return result;
+        } finally {
+            var elapsedNanos = System.nanoTime() - start;
+            statementMetrics.record(statement.name(), elapsedNanos, failed);
+            slowQueryLog.record(statement.name(), statement.sql(), params, statementProperties, elapsedNanos);
+        }
+    }
+
+    // SQL 과 파라미터 타입을 한 번만 파싱해 두고, 호출마다 파라미터 배열만 바꿔 끼운다.
+    private record Statement(
+        String name,
+        String sql,
+        PreparedStatementCreatorFactory factory
+    ) {
+        static Statement of(String name, String sql, int... types) {
+            return new Statement(name, sql, new PreparedStatementCreatorFactory(sql, types));
+        }
+
+        static Statement returningKey(String name, String sql, int... types) {
+            var factory = new PreparedStatementCreatorFactory(sql, types);
+            factory.setReturnGeneratedKeys(true);
+            return new Statement(name, sql, factory);
+        }
+
+        PreparedStatementCreator creator(Object... params) {
+            return factory.newPreparedStatementCreator(params);
+        }
+    }
+
+    // JdbcTemplate 의 기본값(-1)은 문장에 직접 지정한 타임아웃/fetch size 를 덮어쓰지 않는다.
+    private record ConfiguredStatementCreator(
+        PreparedStatementCreator delegate,
+        ProductJdbcProperties.StatementProperties statementProperties
+    ) implements PreparedStatementCreator, SqlProvider {
+        @Override
+        public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+            var ps = delegate.createPreparedStatement(con);
+            if (statementProperties != null) {
+                statementProperties.applyTo(ps);
+            }
+            return ps;
+        }
+
+        @Override
+        public String getSql() {
+            return delegate instanceof SqlProvider provider ? provider.getSql() : null;
+        }
+    }
+
+    private static final class ProductRowMapper implements RowMapper<Product> {
         @Override
         public Product mapRow(ResultSet rs, int rowNum) throws SQLException {
             return new Product(
@@ -1,27 +1,154 @@
 package com.musinsa.assignment.product.infra;
 
 import com.musinsa.assignment.product.application.contract.CacheManager;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import org.springframework.stereotype.Component;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
 
-@Component
+@Slf4j
 public class SimpleCacheManager implements CacheManager {
-    private final Map<String, Object> cache;
+    private final Map<String, Entry> cache;
+    private final Map<String, CompletableFuture<Object>> loading;
+    private final AtomicLong version = new AtomicLong();
 
     public SimpleCacheManager() {
-        this.cache = new HashMap<>();
+        this.cache = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
     }
 
     @Override
     public <T> void set(String key, T data) {
-        cache.put(key, data);
+        cache.put(key, Entry.loaded(data, version.incrementAndGet()));
     }
 
     @Override
     public <T> Optional<T> get(String key, Class<T> clazz) {
-        var data = cache.get(key);
-        return data == null ? Optional.empty() : Optional.of(clazz.cast(data));
+        var entry = cache.get(key);
+        return entry == null || entry.stale ? Optional.empty() : Optional.ofNullable(clazz.cast(entry.data));
+    }
+
+    @Override
+    public <T> Optional<Stamped<T>> getStamped(String key, Class<T> clazz) {
+        var entry = cache.get(key);
+        return entry == null || entry.stale
+            ? Optional.empty()
+            : Optional.of(new Stamped<>(clazz.cast(entry.data), entry.stamp));
+    }
+
+    @Override
+    public <T> boolean compareAndSet(String key, long stamp, T data) {
+        var stored = Entry.loaded(data, version.incrementAndGet());
+        return cache.computeIfPresent(key, (k, entry) -> !entry.stale && entry.stamp == stamp ? stored : entry) == stored;
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoad(String key, Class<T> clazz, Supplier<T> loader) {
+        var entry = cache.get(key);
+        if (entry != null && !entry.stale) {
+            return Optional.ofNullable(clazz.cast(entry.data));
+        }
+
+        var created = new CompletableFuture<Object>();
+        var inflight = loading.putIfAbsent(key, created);
+        if (inflight == null) {
+            // 슬롯을 잡기 전에 끝난 로드의 결과가 있으면 다시 계산하지 않는다.
+            var current = cache.get(key);
+            if (current != null && !current.stale) {
+                loading.remove(key, created);
+                created.complete(current.data);
+                return Optional.ofNullable(clazz.cast(current.data));
+            }
+
+            try {
+                return Optional.ofNullable(clazz.cast(load(key, current, loader, created)));
+            } catch (TransientDataAccessException e) {
+                // 타임아웃처럼 일시적인 실패로 다시 계산하지 못하면 무효화 전 값을 내준다.
+                // 키는 무효화된 채로 남아 다음 조회 때 다시 계산한다. 그 밖의 실패는 그대로 던진다.
+                if (current == null || !current.hasData) {
+                    throw e;
+                }
+                log.warn("failed to reload cache, serving the invalidated value. key = {}", key, e);
+                return Optional.ofNullable(clazz.cast(current.data));
+            }
+        }
+
+        if (entry != null && entry.hasData) {
+            return Optional.ofNullable(clazz.cast(entry.data));
+        }
+
+        try {
+            return Optional.ofNullable(clazz.cast(inflight.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Object load(String key, Entry previous, Supplier<?> loader, CompletableFuture<Object> future) {
+        try {
+            // 로더가 null 을 반환하면 빈 값으로 캐시해 매번 다시 로드하지 않도록 한다.
+            // 로드하는 동안 set/invalidate 가 있었다면 항목이 바뀌었으므로 그 값을 덮어쓰지 않는다.
+            var data = loader.get();
+            var loaded = Entry.loaded(data, version.incrementAndGet());
+            if (previous == null) {
+                cache.putIfAbsent(key, loaded);
+            } else {
+                cache.replace(key, previous, loaded);
+            }
+            future.complete(data);
+            return data;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        // 캐시에 없는 키도 빈 항목으로 무효화를 남겨, 무효화 전에 시작한 로드가 이전 데이터를 저장하지 못하게 한다.
+        var stamp = version.incrementAndGet();
+        cache.compute(key, (k, entry) -> entry == null ? Entry.invalidated(stamp) : entry.toStale(stamp));
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    // replace 가 동일 인스턴스인지로 판단하도록 record 대신 클래스를 쓴다.
+    private static final class Entry {
+        private final Object data;
+        private final boolean hasData;
+        private final boolean stale;
+        private final long stamp;
+
+        private Entry(Object data, boolean hasData, boolean stale, long stamp) {
+            this.data = data;
+            this.hasData = hasData;
+            this.stale = stale;
+            this.stamp = stamp;
+        }
+
+        private static Entry loaded(Object data, long stamp) {
+            return new Entry(data, true, false, stamp);
+        }
+
+        private static Entry invalidated(long stamp) {
+            return new Entry(null, false, true, stamp);
+        }
+
+        private Entry toStale(long stamp) {
+            return new Entry(data, hasData, true, stamp);
+        }
     }
 }
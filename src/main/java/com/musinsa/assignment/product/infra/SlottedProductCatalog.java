@@ -0,0 +1,246 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// id 오름차순으로 정렬된 고정 폭 slot 에 상품을 저장하는 카탈로그의 공통 로직.
+// 삭제된 slot 은 category 가 REMOVED 인 채로 남겨두고, 절반 이상이 비면 앞으로 당겨 정리한다.
+abstract class SlottedProductCatalog implements ProductCatalog {
+    protected static final byte REMOVED = -1;
+    protected static final Category[] CATEGORIES = Category.values();
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int slotCount;
+    private int size;
+    private long version;
+
+    protected abstract int capacity();
+
+    protected abstract void grow();
+
+    protected abstract long idAt(int slot);
+
+    protected abstract long brandIdAt(int slot);
+
+    protected abstract byte categoryAt(int slot);
+
+    protected abstract int priceAt(int slot);
+
+    protected abstract void write(int slot, long id, long brandId, byte category, int price);
+
+    protected abstract void markRemoved(int slot);
+
+    protected abstract void move(int fromSlot, int toSlot, int length);
+
+    @Override
+    public void put(Product product) {
+        lock.writeLock().lock();
+        try {
+            var id = product.getId();
+            var slot = indexOf(id);
+
+            if (slot < 0) {
+                slot = -(slot + 1);
+                insertSlot(slot);
+                size++;
+            } else if (categoryAt(slot) == REMOVED) {
+                size++;
+            }
+
+            write(
+                slot,
+                id,
+                product.getBrandId(),
+                (byte) product.getCategory().ordinal(),
+                product.getPrice()
+            );
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            var slot = indexOf(productId);
+            if (slot < 0 || categoryAt(slot) == REMOVED) {
+                return;
+            }
+
+            markRemoved(slot);
+            size--;
+            version++;
+
+            if (slotCount > COMPACTION_THRESHOLD && size < slotCount / 2) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(Long productId) {
+        lock.readLock().lock();
+        try {
+            var slot = indexOf(productId);
+            if (slot < 0 || categoryAt(slot) == REMOVED) {
+                return Optional.empty();
+            }
+
+            return Optional.of(
+                new Product(
+                    idAt(slot),
+                    brandIdAt(slot),
+                    CATEGORIES[categoryAt(slot)],
+                    priceAt(slot)
+                )
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int slotCount() {
+        lock.readLock().lock();
+        try {
+            return slotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void scan(int fromSlot, int toSlot, Consumer<View> visitor) {
+        var cursor = new Cursor();
+        var end = Math.min(toSlot, slotCount);
+
+        for (var slot = fromSlot; slot < end; slot++) {
+            if (categoryAt(slot) == REMOVED) {
+                continue;
+            }
+            cursor.slot = slot;
+            visitor.accept(cursor);
+        }
+    }
+
+    @Override
+    public <R> R read(Supplier<R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int indexOf(long id) {
+        if (slotCount == 0 || idAt(slotCount - 1) < id) {
+            return -(slotCount + 1);
+        }
+
+        var low = 0;
+        var high = slotCount - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var midId = idAt(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insertSlot(int slot) {
+        if (slotCount == capacity()) {
+            grow();
+        }
+
+        var moved = slotCount - slot;
+        if (moved > 0) {
+            move(slot, slot + 1, moved);
+        }
+        slotCount++;
+    }
+
+    // 연속으로 남아 있는 slot 묶음 단위로 당겨 bulk 복사 횟수를 줄인다.
+    private void compact() {
+        var target = 0;
+        var slot = 0;
+        while (slot < slotCount) {
+            if (categoryAt(slot) == REMOVED) {
+                slot++;
+                continue;
+            }
+
+            var runStart = slot;
+            while (slot < slotCount && categoryAt(slot) != REMOVED) {
+                slot++;
+            }
+            var length = slot - runStart;
+            if (target != runStart) {
+                move(runStart, target, length);
+            }
+            target += length;
+        }
+        slotCount = target;
+    }
+
+    private class Cursor implements View {
+        private int slot;
+
+        @Override
+        public long id() {
+            return idAt(slot);
+        }
+
+        @Override
+        public long brandId() {
+            return brandIdAt(slot);
+        }
+
+        @Override
+        public Category category() {
+            return CATEGORIES[categoryAt(slot)];
+        }
+
+        @Override
+        public int price() {
+            return priceAt(slot);
+        }
+    }
+}
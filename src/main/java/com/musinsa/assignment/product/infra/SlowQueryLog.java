@@ -0,0 +1,107 @@
+package com.musinsa.assignment.product.infra;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+
+// 기준 시간보다 오래 걸린 문장을 파라미터와 함께 남기고, 조회 문장은 실행 계획(H2 EXPLAIN ANALYZE)도 남긴다.
+// EXPLAIN ANALYZE 는 쿼리를 한 번 더 실행하므로 별도 스레드에서 문장 별로 EXPLAIN_INTERVAL 에 한 번만 실행하고,
+// 원래 문장의 타임아웃(없으면 DEFAULT_EXPLAIN_TIMEOUT)을 넘기지 않는다.
+@Slf4j
+class SlowQueryLog {
+    private static final long EXPLAIN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+    private static final ProductJdbcProperties.StatementProperties DEFAULT_EXPLAIN_TIMEOUT =
+        new ProductJdbcProperties.StatementProperties(Duration.ofSeconds(10), null);
+
+    private final JdbcOperations jdbcOperations;
+    private final long thresholdNanos;
+    private final ThreadPoolExecutor explainExecutor;
+    private final Map<String, Long> lastExplainedAt = new ConcurrentHashMap<>();
+
+    SlowQueryLog(JdbcOperations jdbcOperations, Duration threshold) {
+        this.jdbcOperations = jdbcOperations;
+        this.thresholdNanos = threshold.toNanos();
+        this.explainExecutor = new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE),
+            runnable -> {
+                var thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy()
+        );
+    }
+
+    void record(String name,
+                String sql,
+                Object[] params,
+                ProductJdbcProperties.StatementProperties statementProperties,
+                long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        log.warn(
+            "slow query. statement = {}, elapsedMillis = {}, params = {}",
+            name,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            Arrays.toString(params)
+        );
+
+        if (sql.stripLeading().regionMatches(true, 0, "SELECT", 0, 6) && shouldExplain(name)) {
+            var timeout = statementProperties != null && statementProperties.timeout() != null
+                ? new ProductJdbcProperties.StatementProperties(statementProperties.timeout(), null)
+                : DEFAULT_EXPLAIN_TIMEOUT;
+            explainExecutor.execute(() -> explain(name, sql, params, timeout));
+        }
+    }
+
+    private boolean shouldExplain(String name) {
+        var now = System.nanoTime();
+        var last = lastExplainedAt.get(name);
+        if (last != null && now - last < EXPLAIN_INTERVAL_NANOS) {
+            return false;
+        }
+        return last == null
+            ? lastExplainedAt.putIfAbsent(name, now) == null
+            : lastExplainedAt.replace(name, last, now);
+    }
+
+    void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explain(String name, String sql, Object[] params, ProductJdbcProperties.StatementProperties timeout) {
+        try {
+            var plan = jdbcOperations.query(
+                con -> {
+                    var ps = con.prepareStatement("EXPLAIN ANALYZE " + sql);
+                    new ArgumentPreparedStatementSetter(params).setValues(ps);
+                    timeout.applyTo(ps);
+                    return ps;
+                },
+                (rs, rowNum) -> rs.getString(1)
+            );
+            log.warn(
+                "slow query plan. statement = {}, params = {}\n{}",
+                name,
+                Arrays.toString(params),
+                String.join("\n", plan)
+            );
+        } catch (RuntimeException e) {
+            log.warn("failed to explain slow query. statement = {}", name, e);
+        }
+    }
+}
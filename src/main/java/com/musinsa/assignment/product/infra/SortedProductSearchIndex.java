@@ -0,0 +1,117 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 카테고리별로 (가격, id) 순으로 정렬된 인덱스. 커서 이후 구간만 잘라서 읽으므로 페이지가 깊어져도 비용이 같다.
+// 모든 상품을 힙에 올리므로 application.search.store=heap 일 때만 쓴다. (SearchConfig)
+public class SortedProductSearchIndex implements ProductSearchIndex {
+    private static final Comparator<Cursor> CURSOR_ORDER = Comparator.comparingInt(Cursor::price)
+        .thenComparingLong(Cursor::id);
+
+    private final Map<Category, ConcurrentSkipListMap<Cursor, Long>> brandIdsByCategory;
+    private final Map<Long, Product> indexedProducts;
+
+    public SortedProductSearchIndex() {
+        this.brandIdsByCategory = new EnumMap<>(Category.class);
+        for (var category : Category.values()) {
+            brandIdsByCategory.put(category, new ConcurrentSkipListMap<>(CURSOR_ORDER));
+        }
+        this.indexedProducts = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void put(Product product) {
+        var indexed = new Product(
+            product.getId(),
+            product.getBrandId(),
+            product.getCategory(),
+            product.getPrice()
+        );
+
+        indexedProducts.compute(product.getId(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            brandIdsByCategory.get(indexed.getCategory())
+                .put(cursorOf(indexed), indexed.getBrandId());
+            return indexed;
+        });
+    }
+
+    @Override
+    public void remove(Long productId) {
+        indexedProducts.computeIfPresent(productId, (id, previous) -> {
+            unindex(previous);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Product> search(Category category,
+                                int minPrice,
+                                int maxPrice,
+                                boolean descending,
+                                Cursor after,
+                                int limit) {
+        var index = brandIdsByCategory.get(category);
+        var lowest = new Cursor(minPrice, Long.MIN_VALUE);
+        var highest = new Cursor(maxPrice, Long.MAX_VALUE);
+
+        if (CURSOR_ORDER.compare(lowest, highest) > 0) {
+            return List.of();
+        }
+
+        NavigableMap<Cursor, Long> range;
+        if (descending) {
+            var upper = after == null || CURSOR_ORDER.compare(after, highest) > 0 ? highest : after;
+            if (CURSOR_ORDER.compare(upper, lowest) <= 0) {
+                return List.of();
+            }
+            range = index.subMap(lowest, true, upper, after == null).descendingMap();
+        } else {
+            var lower = after == null || CURSOR_ORDER.compare(after, lowest) < 0 ? lowest : after;
+            if (CURSOR_ORDER.compare(lower, highest) >= 0) {
+                return List.of();
+            }
+            range = index.subMap(lower, after == null, highest, true);
+        }
+
+        var products = new ArrayList<Product>(Math.min(limit, 64));
+        for (var entry : range.entrySet()) {
+            if (products.size() >= limit) {
+                break;
+            }
+            products.add(
+                new Product(
+                    entry.getKey().id(),
+                    entry.getValue(),
+                    category,
+                    entry.getKey().price()
+                )
+            );
+        }
+        return products;
+    }
+
+    private void unindex(Product product) {
+        brandIdsByCategory.get(product.getCategory())
+            .remove(cursorOf(product));
+    }
+
+    private static Cursor cursorOf(Product product) {
+        return new Cursor(
+            product.getPrice(),
+            product.getId()
+        );
+    }
+}
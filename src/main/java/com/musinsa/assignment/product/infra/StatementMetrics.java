@@ -0,0 +1,55 @@
+package com.musinsa.assignment.product.infra;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 문장 별 실행 횟수, 누적 실행 시간, 실패 횟수. 여러 스레드가 동시에 기록하므로 LongAdder 를 쓴다.
+public class StatementMetrics {
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    public void record(String statement, long elapsedNanos, boolean failed) {
+        var metric = metrics.computeIfAbsent(statement, key -> new Metric());
+        metric.count.increment();
+        metric.totalNanos.add(elapsedNanos);
+        if (failed) {
+            metric.errors.increment();
+        }
+    }
+
+    public Map<String, Snapshot> snapshot() {
+        var snapshot = new TreeMap<String, Snapshot>();
+        metrics.forEach((statement, metric) -> snapshot.put(statement, metric.snapshot()));
+        return snapshot;
+    }
+
+    public record Snapshot(
+        long count,
+        long totalNanos,
+        long errors
+    ) {
+        public long averageMicros() {
+            return count == 0 ? 0 : totalNanos / count / 1_000;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", avgMicros=" + averageMicros() + ", errors=" + errors;
+        }
+    }
+
+    private static final class Metric {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Snapshot snapshot() {
+            return new Snapshot(
+                count.sum(),
+                totalNanos.sum(),
+                errors.sum()
+            );
+        }
+    }
+}
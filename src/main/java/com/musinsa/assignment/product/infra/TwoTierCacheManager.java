@@ -0,0 +1,357 @@
+package com.musinsa.assignment.product.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.assignment.product.application.contract.CacheManager;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+// L1(인스턴스 메모리, SimpleCacheManager) 앞단 + L2(CacheNodeServer, 인스턴스 간 공유) 구성의 캐시.
+// 한 인스턴스가 계산해 L2 에 올린 값은 다른 인스턴스들이 재계산 없이 가져가고,
+// L2 의 변경은 INVALIDATED 메시지로 각 인스턴스의 L1 을 무효화한다.
+// L2 에 접근할 수 없으면 L1 만으로 동작한다.
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, Closeable {
+    private static final int CONNECT_TIMEOUT_MILLIS = 1_000;
+    private static final int READ_TIMEOUT_MILLIS = 1_000;
+    private static final long LEASE_MILLIS = 10_000;
+    private static final long LEASE_POLL_MILLIS = 20;
+
+    private final SimpleCacheManager local = new SimpleCacheManager();
+    private final Map<String, Long> localVersions = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final String host;
+    private final int port;
+    private final Semaphore connectionPermits;
+    private final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+    private final Thread subscriber;
+
+    private volatile boolean closed;
+
+    public TwoTierCacheManager(ObjectMapper objectMapper, String host, int port, int poolSize) {
+        this.objectMapper = objectMapper;
+        this.host = host;
+        this.port = port;
+        this.connectionPermits = new Semaphore(poolSize);
+        this.subscriber = new Thread(this::subscribe, "cache-node-subscriber");
+        this.subscriber.setDaemon(true);
+        this.subscriber.start();
+    }
+
+    @Override
+    public <T> void set(String key, T data) {
+        local.set(key, data);
+        send("SET " + key + " " + encode(data))
+            .ifPresent(response -> localVersions.put(key, Long.parseLong(response.substring(3))));
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> clazz) {
+        var cached = local.get(key, clazz);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        var remote = fetch(key, clazz);
+        if (remote.isEmpty() || remote.get().stale()) {
+            return Optional.empty();
+        }
+        setLocal(key, remote.get());
+        return Optional.ofNullable(remote.get().data());
+    }
+
+    // stamp 는 L2 의 version 이다.
+    @Override
+    public <T> Optional<Stamped<T>> getStamped(String key, Class<T> clazz) {
+        var cached = local.get(key, clazz);
+        var localVersion = localVersions.get(key);
+        if (cached.isPresent() && localVersion != null) {
+            return Optional.of(new Stamped<>(cached.get(), localVersion));
+        }
+
+        var remote = fetch(key, clazz);
+        if (remote.isEmpty() || remote.get().stale()) {
+            return Optional.empty();
+        }
+        setLocal(key, remote.get());
+        return Optional.of(new Stamped<>(remote.get().data(), remote.get().version()));
+    }
+
+    // L2 에 접근할 수 없으면 저장하지 못한 것으로 본다.
+    @Override
+    public <T> boolean compareAndSet(String key, long stamp, T data) {
+        var response = send("LOAD " + key + " " + stamp + " " + encode(data))
+            .filter(value -> value.startsWith("OK "));
+        if (response.isEmpty()) {
+            return false;
+        }
+        localVersions.put(key, Long.parseLong(response.get().substring(3)));
+        local.set(key, data);
+        return true;
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoad(String key, Class<T> clazz, Supplier<T> loader) {
+        // 인스턴스 안의 동시 로드는 L1 이, 인스턴스 간 중복 계산은 L2 의 LEASE 가 막는다.
+        return local.getOrLoad(key, clazz, () -> loadShared(key, clazz, loader));
+    }
+
+    private <T> T loadShared(String key, Class<T> clazz, Supplier<T> loader) {
+        var deadline = System.currentTimeMillis() + LEASE_MILLIS;
+        while (true) {
+            var remote = fetch(key, clazz);
+            if (remote.isPresent() && !remote.get().stale()) {
+                localVersions.put(key, remote.get().version());
+                return remote.get().data();
+            }
+
+            // 계산을 시작하기 전의 version. 그 사이 무효화되면 L2 가 결과를 거절한다.
+            var baseVersion = remote.map(Remote::version);
+            var lease = send("LEASE " + key + " " + LEASE_MILLIS);
+            var leaseToken = lease.filter(response -> response.startsWith("OK "))
+                .map(response -> response.substring(3));
+            if (lease.isEmpty()
+                || leaseToken.isPresent()
+                || System.currentTimeMillis() > deadline
+                || Thread.currentThread().isInterrupted()) {
+                try {
+                    var data = loader.get();
+                    if (data != null && baseVersion.isPresent()) {
+                        store(key, baseVersion.get(), data);
+                    }
+                    return data;
+                } finally {
+                    // 계산이 실패해도 다른 인스턴스가 lease 만료까지 기다리지 않도록 바로 반납한다.
+                    leaseToken.ifPresent(token -> send("RELEASE " + key + " " + token));
+                }
+            }
+
+            // 다른 인스턴스가 계산 중이면 이전 값을 먼저 돌려주고, 없으면 결과가 올라올 때까지 기다린다.
+            if (remote.isPresent() && remote.get().hasData()) {
+                return remote.get().data();
+            }
+            sleep();
+        }
+    }
+
+    private void store(String key, long baseVersion, Object data) {
+        var response = send("LOAD " + key + " " + baseVersion + " " + encode(data));
+        if (response.filter(value -> value.startsWith("OK ")).isPresent()) {
+            localVersions.put(key, Long.parseLong(response.get().substring(3)));
+        } else if (response.filter("CONFLICT"::equals).isPresent()) {
+            // 계산하는 동안 다른 인스턴스가 무효화했으므로 이 결과는 L1 에도 남기지 않는다.
+            local.invalidate(key);
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        local.invalidate(key);
+        send("INVALIDATE " + key);
+    }
+
+    @Override
+    public long version() {
+        return local.version();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        subscriber.interrupt();
+        Connection connection;
+        while ((connection = idleConnections.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    private <T> void setLocal(String key, Remote<T> remote) {
+        localVersions.put(key, remote.version());
+        local.set(key, remote.data());
+    }
+
+    // 값이 없는 키도 version 과 함께 무효화된 값으로 돌려준다.
+    private <T> Optional<Remote<T>> fetch(String key, Class<T> clazz) {
+        return send("GET " + key)
+            .map(response -> {
+                if (response.startsWith("NONE ")) {
+                    return new Remote<T>(Long.parseLong(response.substring(5)), true, false, null);
+                }
+                if (!response.startsWith("VALUE ")) {
+                    return null;
+                }
+                var parts = response.split(" ", 4);
+                return new Remote<>(
+                    Long.parseLong(parts[1]),
+                    "1".equals(parts[2]),
+                    true,
+                    decode(parts[3], clazz)
+                );
+            });
+    }
+
+    // 요청/응답은 최대 poolSize 개의 연결을 나눠 쓴다.
+    // 연결을 얻지 못하거나 요청이 실패하면 그 연결은 버리고 L2 없이 진행한다.
+    private Optional<String> send(String command) {
+        if (closed) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!connectionPermits.tryAcquire(READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("cache node connection pool exhausted. command = {}", command.split(" ", 2)[0]);
+                return Optional.empty();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        Connection connection = null;
+        try {
+            connection = idleConnections.poll();
+            if (connection == null) {
+                connection = connect();
+            }
+            var response = connection.request(command);
+            if (closed) {
+                connection.close();
+            } else {
+                idleConnections.offer(connection);
+            }
+            return Optional.ofNullable(response);
+        } catch (IOException e) {
+            log.warn("cache node request failed. command = {}, message = {}", command.split(" ", 2)[0], e.getMessage());
+            if (connection != null) {
+                connection.close();
+            }
+            return Optional.empty();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private Connection connect() throws IOException {
+        var socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+            return new Connection(
+                socket,
+                new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)),
+                new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))
+            );
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    // 다른 인스턴스가 갱신한 키는 L1 에서 무효화한다. 재연결 중 놓친 메시지가 있을 수 있으므로 재연결 시 L1 전체를 무효화한다.
+    private void subscribe() {
+        while (!closed) {
+            try (var subscription = new Socket()) {
+                subscription.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+                var subscriptionWriter = new BufferedWriter(new OutputStreamWriter(subscription.getOutputStream(), StandardCharsets.UTF_8));
+                subscriptionWriter.write("SUBSCRIBE");
+                subscriptionWriter.newLine();
+                subscriptionWriter.flush();
+
+                localVersions.keySet().forEach(local::invalidate);
+
+                var subscriptionReader = new BufferedReader(new InputStreamReader(subscription.getInputStream(), StandardCharsets.UTF_8));
+                String line;
+                while ((line = subscriptionReader.readLine()) != null) {
+                    var parts = line.split(" ");
+                    if (parts.length == 3 && "INVALIDATED".equals(parts[0])) {
+                        onInvalidated(parts[1], Long.parseLong(parts[2]));
+                    }
+                }
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn("cache node subscription lost. message = {}", e.getMessage());
+                }
+            }
+            sleep(1_000);
+        }
+    }
+
+    private void onInvalidated(String key, long version) {
+        var localVersion = localVersions.get(key);
+        if (localVersion == null || localVersion < version) {
+            local.invalidate(key);
+        }
+    }
+
+    private String encode(Object data) {
+        try {
+            return Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(data));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T decode(String payload, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(Base64.getDecoder().decode(payload), clazz);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep() {
+        sleep(LEASE_POLL_MILLIS);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Connection(
+        Socket socket,
+        BufferedReader reader,
+        BufferedWriter writer
+    ) {
+        private String request(String command) throws IOException {
+            writer.write(command);
+            writer.newLine();
+            writer.flush();
+            return reader.readLine();
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private record Remote<T>(
+        long version,
+        boolean stale,
+        boolean hasData,
+        T data
+    ) {
+    }
+}
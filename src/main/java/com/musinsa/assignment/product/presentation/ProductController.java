@@ -1,55 +1,84 @@
 package com.musinsa.assignment.product.presentation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.assignment.common.web.ApiResponse;
+import com.musinsa.assignment.product.application.ProductImportService;
 import com.musinsa.assignment.product.application.ProductQueryService;
-import com.musinsa.assignment.product.application.ProductService;
+import com.musinsa.assignment.product.application.ProductWritePipeline;
 import com.musinsa.assignment.product.application.dto.AddBrandDto;
 import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.SearchProductsDto;
 import com.musinsa.assignment.product.application.dto.UpdateProductDto;
 import com.musinsa.assignment.product.application.exception.CategoryEmptyException;
 import com.musinsa.assignment.product.presentation.ProductController.AddBrandRequest.Product;
+import com.musinsa.assignment.product.presentation.util.AcceptEncoding;
 import com.musinsa.assignment.product.presentation.util.CategoryUtils;
+import com.musinsa.assignment.product.presentation.util.PrecompressedResponses;
+import com.musinsa.assignment.product.presentation.util.ProductExportWriter;
+import com.musinsa.assignment.product.presentation.util.ProductImportReader;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ProductController {
-    private final ProductService productService;
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private final ProductWritePipeline productWritePipeline;
     private final ProductQueryService productQueryService;
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
+    private final PrecompressedResponses precompressedResponses;
 
     @PostMapping("/v1/products")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<Map<String, Long>> addProduct(@Valid @RequestBody AddProductRequest request) {
-        var id = productService.addProduct(
+    public CompletableFuture<ApiResponse<Map<String, Long>>> addProduct(@Valid @RequestBody AddProductRequest request) {
+        return productWritePipeline.addProduct(
             new AddProductDto(
                 request.brandId(),
                 CategoryUtils.convertFrom(request.category()),
                 request.price()
             )
-        );
-
-        return ApiResponse.success(
+        ).thenApply(id -> ApiResponse.success(
             Map.of(
                 "id", id
             )
-        );
+        ));
     }
 
     public record AddProductRequest(
@@ -63,16 +92,15 @@ public class ProductController {
     }
 
     @PutMapping("/v1/products/{productId}")
-    public ApiResponse<Void> updateProduct(@PathVariable Long productId, @Valid @RequestBody UpdateProductRequest request) {
-        productService.updateProduct(
+    public CompletableFuture<ApiResponse<Void>> updateProduct(@PathVariable Long productId, @Valid @RequestBody UpdateProductRequest request) {
+        return productWritePipeline.updateProduct(
             productId,
             new UpdateProductDto(
                 request.brandId(),
                 CategoryUtils.convertFrom(request.category()),
                 request.price()
             )
-        );
-        return ApiResponse.success();
+        ).thenApply(ignored -> ApiResponse.success());
     }
 
     public record UpdateProductRequest(
@@ -86,14 +114,14 @@ public class ProductController {
     }
 
     @DeleteMapping("/v1/products/{productId}")
-    public ApiResponse<Void> deleteProduct(@PathVariable Long productId) {
-        productService.removeProduct(productId);
-        return ApiResponse.success();
+    public CompletableFuture<ApiResponse<Void>> deleteProduct(@PathVariable Long productId) {
+        return productWritePipeline.removeProduct(productId)
+            .thenApply(ignored -> ApiResponse.success());
     }
 
     @PostMapping("/v1/brands")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<Map<String, Long>> addBrand(@Valid @RequestBody AddBrandRequest request) {
+    public CompletableFuture<ApiResponse<Map<String, Long>>> addBrand(@Valid @RequestBody AddBrandRequest request) {
         var hasAllCategories = CategoryUtils.hasAllCategories(
             request.products().stream()
                 .map(Product::category)
@@ -104,7 +132,7 @@ public class ProductController {
             throw new CategoryEmptyException();
         }
 
-        var id = productService.addBrand(
+        return productWritePipeline.addBrand(
             new AddBrandDto(
                 request.brandName(),
                 request.products().stream()
@@ -114,13 +142,11 @@ public class ProductController {
                     ))
                     .collect(Collectors.toList())
             )
-        );
-
-        return ApiResponse.success(
+        ).thenApply(id -> ApiResponse.success(
             Map.of(
                 "id", id
             )
-        );
+        ));
     }
 
     public record AddBrandRequest(
@@ -135,10 +161,98 @@ public class ProductController {
         }
     }
 
-    @GetMapping("/v1/products/categories-min-prices")
-    public ApiResponse<CategoriesMinPricesResponse> getCategoriesMinPrices() {
+    @PostMapping("/v1/products/import")
+    public ApiResponse<ImportProductsResponse> importProducts(String format, InputStream inputStream) {
+        return ApiResponse.success(
+            productImportService.importProducts(
+                new ProductImportReader(
+                    inputStream,
+                    objectMapper,
+                    "csv".equalsIgnoreCase(format)
+                )
+            )
+        );
+    }
+
+    public record ImportProductsResponse(
+        @JsonProperty("성공")
+        Long importedRows,
+        @JsonProperty("실패")
+        Long failedRows,
+        @JsonProperty("오류")
+        List<ImportError> errors
+    ) {
+    }
+
+    public record ImportError(
+        @JsonProperty("줄")
+        Long lineNumber,
+        @JsonProperty("사유")
+        String reason
+    ) {
+    }
+
+    @GetMapping("/v1/products/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(String format,
+                                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                                                String acceptEncoding) {
+        var csv = "csv".equalsIgnoreCase(format);
+        var gzip = AcceptEncoding.accepts(acceptEncoding, "gzip");
+
+        StreamingResponseBody body = outputStream -> {
+            var target = gzip ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE) : outputStream;
+            try (var writer = csv ? ProductExportWriter.csv(target) : ProductExportWriter.ndjson(target)) {
+                productQueryService.exportProducts(writer::write);
+            }
+        };
+
+        var response = ResponseEntity.ok()
+            .contentType(csv ? TEXT_CSV : APPLICATION_NDJSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/v1/brands/{brandId}/products")
+    public ApiResponse<BrandProductsResponse> getBrandProducts(@PathVariable Long brandId,
+                                                               String cursor,
+                                                               Integer size) {
         return ApiResponse.success(
-            productQueryService.getCategoriesMinPrices()
+            productQueryService.getBrandProducts(
+                brandId,
+                cursor,
+                toPageSize(size)
+            )
+        );
+    }
+
+    public record BrandProductsResponse(
+        @JsonProperty("브랜드")
+        String brandName,
+        @JsonProperty("상품")
+        List<SearchedProduct> products,
+        @JsonProperty("다음커서")
+        String nextCursor
+    ) {
+    }
+
+    @GetMapping(
+        value = "/v1/products/categories-min-prices",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<?> getCategoriesMinPrices(@RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                                                    String accept,
+                                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                                    String acceptEncoding) {
+        return precompressedResponses.respond(
+            "categories-min-prices",
+            accept,
+            acceptEncoding,
+            () -> ApiResponse.success(
+                productQueryService.getCategoriesMinPrices()
+            )
         );
     }
 
@@ -150,11 +264,22 @@ public class ProductController {
     ) {
     }
 
-    @GetMapping("/v1/products/brand-min-prices")
-    public ApiResponse<Map<String, BrandMinPricesResponse>> getBrandMinPrices() {
-        return ApiResponse.success(
-            Map.of(
-                "최저가", productQueryService.getBrandMinPrices()
+    @GetMapping(
+        value = "/v1/products/brand-min-prices",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<?> getBrandMinPrices(@RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                                               String accept,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                               String acceptEncoding) {
+        return precompressedResponses.respond(
+            "brand-min-prices",
+            accept,
+            acceptEncoding,
+            () -> ApiResponse.success(
+                Map.of(
+                    "최저가", productQueryService.getBrandMinPrices()
+                )
             )
         );
     }
@@ -169,10 +294,23 @@ public class ProductController {
     ) {
     }
 
-    @GetMapping("/v1/products/category-min-max-prices")
-    public ApiResponse<CategoryMinMaxPricesResponse> getCategoryMinMaxPrices(String category) {
-        return ApiResponse.success(
-            productQueryService.getCategoryMinMaxPrices(CategoryUtils.convertFrom(category))
+    @GetMapping(
+        value = "/v1/products/category-min-max-prices",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<?> getCategoryMinMaxPrices(String category,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                                                     String accept,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                                     String acceptEncoding) {
+        var convertedCategory = CategoryUtils.convertFrom(category);
+        return precompressedResponses.respond(
+            "category-min-max-prices:" + convertedCategory.name(),
+            accept,
+            acceptEncoding,
+            () -> ApiResponse.success(
+                productQueryService.getCategoryMinMaxPrices(convertedCategory)
+            )
         );
     }
 
@@ -186,6 +324,91 @@ public class ProductController {
     ) {
     }
 
+    @GetMapping(
+        value = "/v1/products/summary",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<?> getSummary(@RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                                        String accept,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                        String acceptEncoding) {
+        return precompressedResponses.respond(
+            "summary",
+            accept,
+            acceptEncoding,
+            () -> ApiResponse.success(
+                productQueryService.getSummary()
+            )
+        );
+    }
+
+    @GetMapping("/v1/products/summary/history")
+    public ApiResponse<ProductSummaryResponse> getSummaryAsOf(@RequestParam
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                              LocalDateTime asOf) {
+        return ApiResponse.success(
+            productQueryService.getSummaryAsOf(asOf)
+        );
+    }
+
+    public record ProductSummaryResponse(
+        @JsonProperty("카테고리별최저가")
+        CategoriesMinPricesResponse categoriesMinPrices,
+        @JsonProperty("최저가브랜드")
+        BrandMinPricesResponse brandMinPrices,
+        @JsonProperty("카테고리별최저최고가")
+        List<CategoryMinMaxPricesResponse> categoryMinMaxPrices
+    ) {
+    }
+
+    @GetMapping("/v1/products")
+    public ApiResponse<SearchProductsResponse> searchProducts(String category,
+                                                             Integer minPrice,
+                                                             Integer maxPrice,
+                                                             String sort,
+                                                             String cursor,
+                                                             Integer size) {
+        return ApiResponse.success(
+            productQueryService.searchProducts(
+                new SearchProductsDto(
+                    CategoryUtils.convertFrom(category),
+                    minPrice,
+                    maxPrice,
+                    "desc".equalsIgnoreCase(sort),
+                    cursor,
+                    toPageSize(size)
+                )
+            )
+        );
+    }
+
+    public record SearchProductsResponse(
+        @JsonProperty("상품")
+        List<SearchedProduct> products,
+        @JsonProperty("다음커서")
+        String nextCursor
+    ) {
+    }
+
+    public record SearchedProduct(
+        @JsonProperty("상품ID")
+        Long id,
+        @JsonProperty("카테고리")
+        String category,
+        @JsonProperty("브랜드")
+        String brand,
+        @JsonProperty("가격")
+        Integer price
+    ) {
+    }
+
+    static int toPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
     public record PresentationProduct(
         @JsonProperty("카테고리")
         String category,
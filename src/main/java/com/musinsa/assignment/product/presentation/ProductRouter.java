@@ -0,0 +1,254 @@
+package com.musinsa.assignment.product.presentation;
+
+import static com.musinsa.assignment.common.exception.GlobalExceptionHandler.SERVER_ERROR_MESSAGE;
+import static com.musinsa.assignment.common.support.Status.INVALID_PARAMETER;
+
+import com.musinsa.assignment.common.exception.ApplicationException;
+import com.musinsa.assignment.common.web.ApiResponse;
+import com.musinsa.assignment.product.application.ProductQueryService;
+import com.musinsa.assignment.product.application.ProductWritePipeline;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.SearchProductsDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.application.exception.CategoryEmptyException;
+import com.musinsa.assignment.product.presentation.ProductController.AddBrandRequest;
+import com.musinsa.assignment.product.presentation.ProductController.AddProductRequest;
+import com.musinsa.assignment.product.presentation.ProductController.UpdateProductRequest;
+import com.musinsa.assignment.product.presentation.util.CategoryUtils;
+import com.musinsa.assignment.product.presentation.util.PrecompressedResponses;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// 리액티브 모드용 라우터. 조회는 미리 만들어 둔 응답 본문이 있을 때만 이벤트 루프에서 바로 응답하고,
+// 통계를 다시 계산하거나 DB 를 읽어야 하는 조회는 productReadScheduler 에서, 쓰기는 productWriteScheduler 에서 ProductWritePipeline 을 탄다.
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ProductRouter {
+    private final ProductWritePipeline productWritePipeline;
+    private final ProductQueryService productQueryService;
+    private final PrecompressedResponses precompressedResponses;
+    private final Validator validator;
+    private final Scheduler productReadScheduler;
+    private final Scheduler productWriteScheduler;
+
+    @Bean
+    public RouterFunction<ServerResponse> productRoutes() {
+        return RouterFunctions.route()
+            .GET("/v1/products/categories-min-prices", request -> read(
+                request,
+                "categories-min-prices",
+                () -> ApiResponse.success(productQueryService.getCategoriesMinPrices())
+            ))
+            .GET("/v1/products/brand-min-prices", request -> read(
+                request,
+                "brand-min-prices",
+                () -> ApiResponse.success(Map.of("최저가", productQueryService.getBrandMinPrices()))
+            ))
+            .GET("/v1/products/category-min-max-prices", this::getCategoryMinMaxPrices)
+            .GET("/v1/products/summary", request -> read(
+                request,
+                "summary",
+                () -> ApiResponse.success(productQueryService.getSummary())
+            ))
+            .GET("/v1/products", this::searchProducts)
+            .POST("/v1/products", this::addProduct)
+            .PUT("/v1/products/{productId}", this::updateProduct)
+            .DELETE("/v1/products/{productId}", this::deleteProduct)
+            .POST("/v1/brands", this::addBrand)
+            .onError(Exception.class, this::handleError)
+            .build();
+    }
+
+    private Mono<ServerResponse> getCategoryMinMaxPrices(ServerRequest request) {
+        return Mono.defer(() -> {
+            var category = CategoryUtils.convertFrom(request.queryParam("category").orElse(null));
+            return read(
+                request,
+                "category-min-max-prices:" + category.name(),
+                () -> ApiResponse.success(productQueryService.getCategoryMinMaxPrices(category))
+            );
+        });
+    }
+
+    private Mono<ServerResponse> searchProducts(ServerRequest request) {
+        return Mono.fromCallable(() -> ApiResponse.success(
+                productQueryService.searchProducts(
+                    new SearchProductsDto(
+                        CategoryUtils.convertFrom(request.queryParam("category").orElse(null)),
+                        request.queryParam("minPrice").map(Integer::valueOf).orElse(null),
+                        request.queryParam("maxPrice").map(Integer::valueOf).orElse(null),
+                        request.queryParam("sort").map("desc"::equalsIgnoreCase).orElse(false),
+                        request.queryParam("cursor").orElse(null),
+                        ProductController.toPageSize(request.queryParam("size").map(Integer::valueOf).orElse(null))
+                    )
+                )
+            ))
+            .subscribeOn(productReadScheduler)
+            .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    private Mono<ServerResponse> addProduct(ServerRequest request) {
+        return body(request, AddProductRequest.class)
+            .publishOn(productWriteScheduler)
+            .flatMap(body -> Mono.fromFuture(productWritePipeline.addProduct(
+                new AddProductDto(
+                    body.brandId(),
+                    CategoryUtils.convertFrom(body.category()),
+                    body.price()
+                )
+            )))
+            .flatMap(id -> ServerResponse.status(HttpStatus.CREATED).bodyValue(
+                ApiResponse.success(Map.of("id", id))
+            ));
+    }
+
+    private Mono<ServerResponse> updateProduct(ServerRequest request) {
+        return body(request, UpdateProductRequest.class)
+            .publishOn(productWriteScheduler)
+            .flatMap(body -> Mono.fromFuture(productWritePipeline.updateProduct(
+                Long.valueOf(request.pathVariable("productId")),
+                new UpdateProductDto(
+                    body.brandId(),
+                    CategoryUtils.convertFrom(body.category()),
+                    body.price()
+                )
+            )))
+            .then(ServerResponse.ok().bodyValue(ApiResponse.success()));
+    }
+
+    private Mono<ServerResponse> deleteProduct(ServerRequest request) {
+        return Mono.fromCallable(() -> productWritePipeline.removeProduct(Long.valueOf(request.pathVariable("productId"))))
+            .subscribeOn(productWriteScheduler)
+            .flatMap(Mono::fromFuture)
+            .then(ServerResponse.ok().bodyValue(ApiResponse.success()));
+    }
+
+    private Mono<ServerResponse> addBrand(ServerRequest request) {
+        return body(request, AddBrandRequest.class)
+            .publishOn(productWriteScheduler)
+            .flatMap(body -> {
+                var hasAllCategories = CategoryUtils.hasAllCategories(
+                    body.products().stream()
+                        .map(AddBrandRequest.Product::category)
+                        .collect(Collectors.toList())
+                );
+
+                if (!hasAllCategories) {
+                    throw new CategoryEmptyException();
+                }
+
+                return Mono.fromFuture(productWritePipeline.addBrand(
+                    new AddBrandDto(
+                        body.brandName(),
+                        body.products().stream()
+                            .map(product -> new AddBrandDto.Product(
+                                CategoryUtils.convertFrom(product.category()),
+                                product.price()
+                            ))
+                            .collect(Collectors.toList())
+                    )
+                ));
+            })
+            .flatMap(id -> ServerResponse.status(HttpStatus.CREATED).bodyValue(
+                ApiResponse.success(Map.of("id", id))
+            ));
+    }
+
+    // 서블릿 모드와 같이 Accept 에 따라 JSON(미리 압축된 본문) 또는 CBOR/Smile 로 응답한다.
+    private Mono<ServerResponse> read(ServerRequest request, String name, Supplier<ApiResponse<?>> response) {
+        var contentType = precompressedResponses.negotiate(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        if (!MediaType.APPLICATION_JSON.equals(contentType)) {
+            return Mono.fromCallable(response::get)
+                .subscribeOn(productReadScheduler)
+                .flatMap(body -> ServerResponse.ok()
+                    .contentType(contentType)
+                    .header(HttpHeaders.VARY, PrecompressedResponses.VARY)
+                    .bodyValue(body));
+        }
+
+        var encoding = Mono.fromCallable(() -> precompressedResponses.encode(
+            name,
+            request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING),
+            response
+        ));
+        // 확인한 뒤 캐시가 무효화되면 이벤트 루프에서 한 번 다시 계산할 수 있지만, 다음 요청부터는 다시 스케쥴러로 넘어간다.
+        if (!precompressedResponses.isPrepared(name)) {
+            encoding = encoding.subscribeOn(productReadScheduler);
+        }
+
+        return encoding
+            .flatMap(encoded -> {
+                var builder = ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, PrecompressedResponses.VARY);
+                if (encoded.contentEncoding() != null) {
+                    builder.header(HttpHeaders.CONTENT_ENCODING, encoded.contentEncoding());
+                }
+                return builder.bodyValue(encoded.body());
+            });
+    }
+
+    private <T> Mono<T> body(ServerRequest request, Class<T> clazz) {
+        return request.bodyToMono(clazz)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("request body is missing")))
+            .doOnNext(body -> {
+                var violations = validator.validate(body);
+                if (!violations.isEmpty()) {
+                    throw new ConstraintViolationException(violations);
+                }
+            });
+    }
+
+    // GlobalExceptionHandler 와 같은 응답 규칙을 따른다.
+    private Mono<ServerResponse> handleError(Throwable e, ServerRequest request) {
+        if (e instanceof ApplicationException applicationException) {
+            log.error(
+                "{}. status = {}, message = {}",
+                e.getClass().getSimpleName(),
+                applicationException.status(),
+                applicationException.message(),
+                e
+            );
+            return ServerResponse.badRequest().bodyValue(
+                ApiResponse.custom(applicationException.status(), applicationException.message())
+            );
+        }
+
+        log.error(
+            "{}. message = {}",
+            e.getClass().getSimpleName(),
+            e.getMessage(),
+            e
+        );
+
+        if (e instanceof ConstraintViolationException || e instanceof ServerWebInputException) {
+            return ServerResponse.badRequest().bodyValue(
+                ApiResponse.custom(INVALID_PARAMETER, e.getMessage())
+            );
+        }
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).bodyValue(
+            ApiResponse.error(SERVER_ERROR_MESSAGE)
+        );
+    }
+}
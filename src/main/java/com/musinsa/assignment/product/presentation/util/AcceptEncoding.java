@@ -0,0 +1,39 @@
+package com.musinsa.assignment.product.presentation.util;
+
+// Accept-Encoding 헤더로 coding 을 받을 수 있는지 판단한다.
+// q=0 은 거부로 보고, 목록에 없는 coding 은 * 의 q 값을 따른다. 헤더가 없으면 identity 만 받는 것으로 본다.
+public class AcceptEncoding {
+
+    public static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        Double wildcardQuality = null;
+        for (var element : acceptEncoding.split(",")) {
+            var parameters = element.split(";");
+            var name = parameters[0].trim();
+            if (name.equalsIgnoreCase(coding) || name.equalsIgnoreCase("x-" + coding)) {
+                return qualityOf(parameters) > 0;
+            }
+            if (name.equals("*")) {
+                wildcardQuality = qualityOf(parameters);
+            }
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double qualityOf(String[] parameters) {
+        for (var i = 1; i < parameters.length; i++) {
+            var parameter = parameters[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q') && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
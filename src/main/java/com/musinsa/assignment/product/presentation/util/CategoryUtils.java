@@ -1,26 +1,51 @@
 package com.musinsa.assignment.product.presentation.util;
 
 import com.musinsa.assignment.product.domain.Product.Category;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import lombok.Getter;
 
 public class CategoryUtils {
+    private static final Map<String, Category> CATEGORY_BY_DESCRIPTION;
+    private static final Map<Category, String> DESCRIPTION_BY_CATEGORY;
+    private static final int ALL_CATEGORIES_MASK = (1 << Category.values().length) - 1;
+
+    static {
+        var categoryByDescription = new HashMap<String, Category>();
+        var descriptionByCategory = new EnumMap<Category, String>(Category.class);
+
+        for (var presentationCategory : PresentationCategory.values()) {
+            var category = Category.valueOf(presentationCategory.name());
+            categoryByDescription.put(presentationCategory.getDescription(), category);
+            descriptionByCategory.put(category, presentationCategory.getDescription());
+        }
+
+        CATEGORY_BY_DESCRIPTION = Collections.unmodifiableMap(categoryByDescription);
+        DESCRIPTION_BY_CATEGORY = Collections.unmodifiableMap(descriptionByCategory);
+    }
 
     public static Category convertFrom(String categoryString) {
-        return Category.valueOf(PresentationCategory.from(categoryString).name());
+        var category = categoryString == null ? null : CATEGORY_BY_DESCRIPTION.get(categoryString);
+        if (category == null) {
+            throw new NoSuchElementException();
+        }
+        return category;
     }
 
     public static String convertFrom(Category category) {
-        return PresentationCategory.valueOf(category.name()).getDescription();
+        return DESCRIPTION_BY_CATEGORY.get(category);
     }
 
     public static boolean hasAllCategories(List<String> categoryStrings) {
-        return categoryStrings.stream()
-            .map(PresentationCategory::from)
-            .collect(Collectors.toList())
-            .containsAll(List.of(PresentationCategory.values()));
+        var mask = 0;
+        for (var categoryString : categoryStrings) {
+            mask |= 1 << convertFrom(categoryString).ordinal();
+        }
+        return mask == ALL_CATEGORIES_MASK;
     }
 
     @Getter
@@ -40,12 +65,5 @@ public class CategoryUtils {
         PresentationCategory(String description) {
             this.description = description;
         }
-
-        public static PresentationCategory from(String description) {
-            return Arrays.stream(values())
-                .filter(presentationCategory -> presentationCategory.getDescription().equals(description))
-                .findFirst()
-                .orElseThrow();
-        }
     }
 }
@@ -0,0 +1,429 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.assignment.common.support.CoarseClock;
+import com.musinsa.assignment.common.web.ApiResponse;
+import com.musinsa.assignment.product.application.contract.CacheManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+// 통계 캐시 기반 조회 응답을 캐시 버전마다 한 번만 직렬화/압축해 두고 Accept-Encoding 에 맞춰 내려준다.
+// 응답마다 달라지는 serverDatetime 만 요청 때 끼워 넣는다.
+@Component
+@RequiredArgsConstructor
+public class PrecompressedResponses {
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+    public static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    private static final List<MediaType> PRODUCIBLE_TYPES = List.of(
+        MediaType.APPLICATION_JSON,
+        MediaType.APPLICATION_CBOR,
+        APPLICATION_SMILE
+    );
+
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final Map<String, Body> bodies = new ConcurrentHashMap<>();
+
+    public ResponseEntity<?> respond(String name,
+                                     String accept,
+                                     String acceptEncoding,
+                                     Supplier<ApiResponse<?>> response) {
+        // CBOR/Smile 은 메시지 컨버터에 맡긴다.
+        var contentType = negotiate(accept);
+        if (!MediaType.APPLICATION_JSON.equals(contentType)) {
+            return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.VARY, VARY)
+                .body(response.get());
+        }
+
+        var encoded = encode(name, acceptEncoding, response);
+
+        var builder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, VARY);
+        if (encoded.contentEncoding() != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoded.contentEncoding());
+        }
+        return builder.body(encoded.body());
+    }
+
+    // 현재 캐시 버전의 본문이 만들어져 있어 encode 가 통계를 다시 조회하지 않는지 여부
+    public boolean isPrepared(String name) {
+        var current = bodies.get(name);
+        return current != null && current.version() == cacheManager.version();
+    }
+
+    public Encoded encode(String name,
+                          String acceptEncoding,
+                          Supplier<ApiResponse<?>> response) {
+        return encode(name, acceptEncoding, response, CoarseClock.formattedNow());
+    }
+
+    Encoded encode(String name,
+                   String acceptEncoding,
+                   Supplier<ApiResponse<?>> response,
+                   String serverDatetime) {
+        var version = cacheManager.version();
+
+        var current = bodies.get(name);
+        if (current == null || current.version() != version) {
+            current = bodies.compute(name, (key, existing) ->
+                existing != null && existing.version() == version
+                    ? existing
+                    : Body.of(version, serialize(response.get()))
+            );
+        }
+
+        if (AcceptEncoding.accepts(acceptEncoding, "gzip")) {
+            return new Encoded(current.gzip(serverDatetime), "gzip");
+        }
+        if (AcceptEncoding.accepts(acceptEncoding, "deflate")) {
+            return new Encoded(current.deflate(serverDatetime), "deflate");
+        }
+        return new Encoded(current.identity(serverDatetime), null);
+    }
+
+    public record Encoded(
+        byte[] body,
+        String contentEncoding
+    ) {
+    }
+
+    // Accept 의 q 값이 가장 높은 형식을 고르고, q 값이 같으면 와일드카드보다 구체적으로 적은 형식을 고른다.
+    // 받을 수 있는 형식이 없거나 헤더를 해석할 수 없으면 JSON 으로 응답한다.
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        var selected = MediaType.APPLICATION_JSON;
+        var selectedQuality = 0.0;
+        var selectedByWildcard = true;
+        for (var acceptedType : acceptedTypes) {
+            var quality = acceptedType.getQualityValue();
+            var wildcard = acceptedType.isWildcardType() || acceptedType.isWildcardSubtype();
+            for (var producibleType : PRODUCIBLE_TYPES) {
+                if (!acceptedType.includes(producibleType)) {
+                    continue;
+                }
+                if (quality > selectedQuality || (quality > 0 && quality == selectedQuality && selectedByWildcard && !wildcard)) {
+                    selected = producibleType;
+                    selectedQuality = quality;
+                    selectedByWildcard = wildcard;
+                }
+                break;
+            }
+        }
+        return selected;
+    }
+
+    private byte[] serialize(ApiResponse<?> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 직렬화한 응답을 serverDatetime 값 앞(head)과 뒤(tail)로 나눠 두고, 요청마다 현재 시각을 사이에 끼워 넣는다.
+    // gzip/deflate 는 tail 만 미리 압축해 두고, head + 시각은 압축하지 않는 stored 블록으로 그 앞에 붙인다.
+    // 체크섬도 tail 의 것을 미리 구해 두고 head + 시각의 체크섬과 합친다.
+    // serverDatetime 은 초 단위이므로 같은 시각의 요청은 마지막으로 만든 본문을 그대로 쓴다.
+    private static final class Body {
+        private static final byte[] SERVER_DATETIME = "\"serverDatetime\":\"".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+        private static final byte[] ZLIB_HEADER = {0x78, (byte) 0x9c};
+        private static final int MAX_STORED_BLOCK = 0xffff;
+        private static final int STORED_BLOCK_HEADER = 5;
+
+        private final long version;
+        private final byte[] head;
+        private final byte[] tail;
+        private final byte[] deflatedTail;
+        private final long tailCrc;
+        private final long tailAdler;
+        // 길이가 tail 인 데이터를 뒤에 이어 붙였을 때 CRC 가 바뀌는 선형 변환 (zlib crc32_combine)
+        private final long[] crcShift;
+
+        private volatile Variant identity;
+        private volatile Variant gzip;
+        private volatile Variant deflate;
+
+        private Body(long version, byte[] head, byte[] tail) {
+            this.version = version;
+            this.head = head;
+            this.tail = tail;
+            this.deflatedTail = deflate(tail);
+
+            var crc = new CRC32();
+            crc.update(tail);
+            this.tailCrc = crc.getValue();
+            var adler = new Adler32();
+            adler.update(tail);
+            this.tailAdler = adler.getValue();
+            this.crcShift = Checksums.crc32Shift(tail.length);
+        }
+
+        static Body of(long version, byte[] serialized) {
+            var start = indexOf(serialized, SERVER_DATETIME) + SERVER_DATETIME.length;
+            var end = start;
+            while (serialized[end] != '"') {
+                end++;
+            }
+
+            var head = Arrays.copyOfRange(serialized, 0, start);
+            var tail = Arrays.copyOfRange(serialized, end, serialized.length);
+            return new Body(version, head, tail);
+        }
+
+        long version() {
+            return version;
+        }
+
+        byte[] identity(String serverDatetime) {
+            var current = identity;
+            if (current != null && current.serverDatetime().equals(serverDatetime)) {
+                return current.body();
+            }
+
+            var timestamp = serverDatetime.getBytes(StandardCharsets.US_ASCII);
+            var body = new byte[head.length + timestamp.length + tail.length];
+            System.arraycopy(head, 0, body, 0, head.length);
+            System.arraycopy(timestamp, 0, body, head.length, timestamp.length);
+            System.arraycopy(tail, 0, body, head.length + timestamp.length, tail.length);
+            identity = new Variant(serverDatetime, body);
+            return body;
+        }
+
+        byte[] gzip(String serverDatetime) {
+            var current = gzip;
+            if (current != null && current.serverDatetime().equals(serverDatetime)) {
+                return current.body();
+            }
+
+            var timestamp = serverDatetime.getBytes(StandardCharsets.US_ASCII);
+            var crc = new CRC32();
+            crc.update(head);
+            crc.update(timestamp);
+            var checksum = Checksums.crc32Combine(crc.getValue(), tailCrc, crcShift);
+            var size = head.length + timestamp.length + tail.length;
+
+            var body = new byte[GZIP_HEADER.length + storedLength(timestamp) + deflatedTail.length + 8];
+            System.arraycopy(GZIP_HEADER, 0, body, 0, GZIP_HEADER.length);
+            var offset = writeStored(body, GZIP_HEADER.length, timestamp);
+            System.arraycopy(deflatedTail, 0, body, offset, deflatedTail.length);
+            offset += deflatedTail.length;
+            writeInt(body, offset, (int) checksum, ByteOrder.LITTLE_ENDIAN);
+            writeInt(body, offset + 4, size, ByteOrder.LITTLE_ENDIAN);
+            gzip = new Variant(serverDatetime, body);
+            return body;
+        }
+
+        byte[] deflate(String serverDatetime) {
+            var current = deflate;
+            if (current != null && current.serverDatetime().equals(serverDatetime)) {
+                return current.body();
+            }
+
+            var timestamp = serverDatetime.getBytes(StandardCharsets.US_ASCII);
+            var adler = new Adler32();
+            adler.update(head);
+            adler.update(timestamp);
+            var checksum = Checksums.adler32Combine(adler.getValue(), tailAdler, tail.length);
+
+            var body = new byte[ZLIB_HEADER.length + storedLength(timestamp) + deflatedTail.length + 4];
+            System.arraycopy(ZLIB_HEADER, 0, body, 0, ZLIB_HEADER.length);
+            var offset = writeStored(body, ZLIB_HEADER.length, timestamp);
+            System.arraycopy(deflatedTail, 0, body, offset, deflatedTail.length);
+            writeInt(body, offset + deflatedTail.length, (int) checksum, ByteOrder.BIG_ENDIAN);
+            deflate = new Variant(serverDatetime, body);
+            return body;
+        }
+
+        private int storedLength(byte[] timestamp) {
+            var length = head.length + timestamp.length;
+            var blocks = Math.max(1, (length + MAX_STORED_BLOCK - 1) / MAX_STORED_BLOCK);
+            return length + blocks * STORED_BLOCK_HEADER;
+        }
+
+        // head + 시각을 마지막 블록 표시 없는 stored 블록(BTYPE=00)으로 쓴다. 블록은 바이트 경계에서 끝나므로 tail 을 바로 이어 붙인다.
+        private int writeStored(byte[] body, int offset, byte[] timestamp) {
+            var length = head.length + timestamp.length;
+            var written = 0;
+            do {
+                var blockLength = Math.min(MAX_STORED_BLOCK, length - written);
+                body[offset] = 0;
+                body[offset + 1] = (byte) blockLength;
+                body[offset + 2] = (byte) (blockLength >>> 8);
+                body[offset + 3] = (byte) ~blockLength;
+                body[offset + 4] = (byte) (~blockLength >>> 8);
+                offset += STORED_BLOCK_HEADER;
+                for (var i = written; i < written + blockLength; i++) {
+                    body[offset++] = i < head.length ? head[i] : timestamp[i - head.length];
+                }
+                written += blockLength;
+            } while (written < length);
+            return offset;
+        }
+
+        // 헤더/체크섬 없이 마지막 블록까지 끝낸 deflate 데이터만 만든다.
+        private static byte[] deflate(byte[] input) {
+            var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                deflater.setInput(input);
+                deflater.finish();
+
+                var out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+                var buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private static void writeInt(byte[] body, int offset, int value, ByteOrder order) {
+            ByteBuffer.wrap(body, offset, Integer.BYTES).order(order).putInt(value);
+        }
+
+        private static int indexOf(byte[] source, byte[] target) {
+            outer:
+            for (var i = 0; i <= source.length - target.length; i++) {
+                for (var j = 0; j < target.length; j++) {
+                    if (source[i + j] != target[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            throw new IllegalStateException("serverDatetime not found in the serialized response");
+        }
+    }
+
+    private record Variant(
+        String serverDatetime,
+        byte[] body
+    ) {
+    }
+
+    // 앞뒤로 나눠 구한 체크섬을 합친다. zlib 의 crc32_combine / adler32_combine 과 같은 계산이다.
+    static final class Checksums {
+        private static final long CRC32_POLYNOMIAL = 0xedb88320L;
+        private static final long ADLER32_BASE = 65521;
+
+        private Checksums() {
+        }
+
+        // 뒤에 length 바이트를 이어 붙였을 때 앞부분 CRC 에 곱할 GF(2) 행렬. 행렬 i 열은 1 << i 를 옮긴 값이다.
+        static long[] crc32Shift(long length) {
+            var shift = new long[32];
+            for (var i = 0; i < 32; i++) {
+                shift[i] = shiftZeros(1L << i, length);
+            }
+            return shift;
+        }
+
+        static long crc32Combine(long first, long second, long[] shift) {
+            return times(shift, first) ^ second;
+        }
+
+        static long adler32Combine(long first, long second, long secondLength) {
+            var rem = secondLength % ADLER32_BASE;
+            var sum1 = first & 0xffff;
+            var sum2 = rem * sum1 % ADLER32_BASE;
+            sum1 += (second & 0xffff) + ADLER32_BASE - 1;
+            sum2 += ((first >>> 16) & 0xffff) + ((second >>> 16) & 0xffff) + ADLER32_BASE - rem;
+            if (sum1 >= ADLER32_BASE) {
+                sum1 -= ADLER32_BASE;
+            }
+            if (sum1 >= ADLER32_BASE) {
+                sum1 -= ADLER32_BASE;
+            }
+            if (sum2 >= ADLER32_BASE << 1) {
+                sum2 -= ADLER32_BASE << 1;
+            }
+            if (sum2 >= ADLER32_BASE) {
+                sum2 -= ADLER32_BASE;
+            }
+            return sum1 | (sum2 << 16);
+        }
+
+        // crc 뒤에 0 바이트 length 개를 이어 붙였을 때의 값 (체크섬의 초기/최종 반전은 제외)
+        private static long shiftZeros(long crc, long length) {
+            if (length <= 0) {
+                return crc;
+            }
+
+            var even = new long[32];
+            var odd = new long[32];
+            odd[0] = CRC32_POLYNOMIAL;
+            var row = 1L;
+            for (var i = 1; i < 32; i++) {
+                odd[i] = row;
+                row <<= 1;
+            }
+            square(even, odd);
+            square(odd, even);
+
+            do {
+                square(even, odd);
+                if ((length & 1) != 0) {
+                    crc = times(even, crc);
+                }
+                length >>= 1;
+                if (length == 0) {
+                    break;
+                }
+                square(odd, even);
+                if ((length & 1) != 0) {
+                    crc = times(odd, crc);
+                }
+                length >>= 1;
+            } while (length != 0);
+            return crc;
+        }
+
+        private static long times(long[] matrix, long vector) {
+            var sum = 0L;
+            for (var i = 0; vector != 0; i++, vector >>>= 1) {
+                if ((vector & 1) != 0) {
+                    sum ^= matrix[i];
+                }
+            }
+            return sum;
+        }
+
+        private static void square(long[] square, long[] matrix) {
+            for (var i = 0; i < 32; i++) {
+                square[i] = times(matrix, matrix[i]);
+            }
+        }
+    }
+}
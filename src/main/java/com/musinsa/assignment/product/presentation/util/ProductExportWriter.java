@@ -0,0 +1,120 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.musinsa.assignment.product.domain.Product;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public abstract class ProductExportWriter implements Closeable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public static ProductExportWriter ndjson(OutputStream outputStream) {
+        return new NdjsonWriter(outputStream);
+    }
+
+    public static ProductExportWriter csv(OutputStream outputStream) {
+        return new CsvWriter(outputStream);
+    }
+
+    public void write(Product product, String brandName) {
+        try {
+            writeRow(product, brandName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void writeRow(Product product, String brandName) throws IOException;
+
+    private static class NdjsonWriter extends ProductExportWriter {
+        private static final SerializedString ID = new SerializedString("상품ID");
+        private static final SerializedString CATEGORY = new SerializedString("카테고리");
+        private static final SerializedString BRAND = new SerializedString("브랜드");
+        private static final SerializedString PRICE = new SerializedString("가격");
+
+        private final JsonGenerator generator;
+        private boolean written;
+
+        private NdjsonWriter(OutputStream outputStream) {
+            try {
+                this.generator = JSON_FACTORY.createGenerator(outputStream);
+                this.generator.setRootValueSeparator(new SerializedString("\n"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected void writeRow(Product product, String brandName) throws IOException {
+            generator.writeStartObject();
+            generator.writeFieldName(ID);
+            generator.writeNumber(product.getId());
+            generator.writeFieldName(CATEGORY);
+            generator.writeString(CategoryUtils.convertFrom(product.getCategory()));
+            generator.writeFieldName(BRAND);
+            generator.writeString(brandName);
+            generator.writeFieldName(PRICE);
+            generator.writeNumber(product.getPrice());
+            generator.writeEndObject();
+            written = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (written) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+
+    private static class CsvWriter extends ProductExportWriter {
+        private static final String HEADER = "상품ID,카테고리,브랜드,가격\n";
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream outputStream) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                writer.write(HEADER);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected void writeRow(Product product, String brandName) throws IOException {
+            writer.write(String.valueOf(product.getId()));
+            writer.write(',');
+            writer.write(CategoryUtils.convertFrom(product.getCategory()));
+            writer.write(',');
+            writer.write(escape(brandName));
+            writer.write(',');
+            writer.write(String.valueOf(product.getPrice()));
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0
+                && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.assignment.common.support.Status;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.ImportRowDto;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.presentation.ProductController.AddProductRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// 요청 본문을 한 줄씩 읽어 ImportRowDto 로 변환한다.
+// ndjson: {"brandId":1,"category":"상의","price":10000} 한 줄이 상품 하나
+// csv: csv/brand.csv 와 같은 "브랜드,상의,아우터,바지,스니커즈,가방,모자,양말,액세서리" 한 줄이 브랜드 하나
+public class ProductImportReader implements Iterator<ImportRowDto> {
+    private static final Category[] CSV_CATEGORIES = {
+        Category.TOP,
+        Category.OUTER,
+        Category.PANTS,
+        Category.SHOES,
+        Category.BAG,
+        Category.HAT,
+        Category.SOCKS,
+        Category.ACCESSORY
+    };
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final boolean csv;
+    private long lineNumber;
+    private String nextLine;
+
+    public ProductImportReader(InputStream inputStream,
+                               ObjectMapper objectMapper,
+                               boolean csv) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.csv = csv;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine != null) {
+            return true;
+        }
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ImportRowDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var line = nextLine;
+        nextLine = null;
+        return csv ? parseCsv(line) : parseNdjson(line);
+    }
+
+    private ImportRowDto parseNdjson(String line) {
+        try {
+            var request = objectMapper.readValue(line, AddProductRequest.class);
+            return ImportRowDto.ofProduct(
+                lineNumber,
+                request.brandId(),
+                request.category() == null ? null : CategoryUtils.convertFrom(request.category()),
+                request.price()
+            );
+        } catch (JsonProcessingException | NoSuchElementException e) {
+            return ImportRowDto.invalid(lineNumber, Status.INVALID_PARAMETER.message());
+        }
+    }
+
+    private ImportRowDto parseCsv(String line) {
+        var columns = line.split(",");
+        if (columns.length != CSV_CATEGORIES.length + 1) {
+            return ImportRowDto.invalid(lineNumber, Status.INVALID_PARAMETER.message());
+        }
+
+        try {
+            var products = new ArrayList<AddBrandDto.Product>(CSV_CATEGORIES.length);
+            for (var i = 0; i < CSV_CATEGORIES.length; i++) {
+                products.add(
+                    new AddBrandDto.Product(
+                        CSV_CATEGORIES[i],
+                        Integer.valueOf(columns[i + 1].trim())
+                    )
+                );
+            }
+            return ImportRowDto.ofBrand(lineNumber, columns[0].trim(), products);
+        } catch (NumberFormatException e) {
+            return ImportRowDto.invalid(lineNumber, Status.INVALID_PARAMETER.message());
+        }
+    }
+}
@@ -11,3 +11,46 @@ create table product
     category varchar(50) not null,
     price int not null
 );
+
+create index idx_product_brand_category_price on product (brand_id, category, price, id);
+create index idx_product_category_price on product (category, price, id);
+
+create table product_price_history
+(
+    id bigint primary key auto_increment,
+    product_id bigint not null,
+    brand_id bigint not null,
+    category varchar(50) not null,
+    price_delta int not null,
+    change_type varchar(10) not null,
+    changed_at timestamp(6) not null,
+    snapshot_id bigint
+);
+
+create index idx_product_price_history_changed_at on product_price_history (changed_at, id);
+create index idx_product_price_history_snapshot_id on product_price_history (snapshot_id, changed_at);
+
+create table product_snapshot
+(
+    id bigint primary key auto_increment,
+    taken_at timestamp(6) not null
+);
+
+create index idx_product_snapshot_taken_at on product_snapshot (taken_at);
+
+create table product_snapshot_lock
+(
+    id bigint primary key
+);
+
+insert into product_snapshot_lock (id) values (1);
+
+create table product_price_snapshot
+(
+    snapshot_id bigint not null,
+    product_id bigint not null,
+    brand_id bigint not null,
+    category varchar(50) not null,
+    price int not null,
+    primary key (snapshot_id, product_id)
+);
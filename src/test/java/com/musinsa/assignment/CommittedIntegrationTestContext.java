@@ -0,0 +1,17 @@
+package com.musinsa.assignment;
+
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 커밋된 뒤에 반영되는 동작(카탈로그, 검색 인덱스, 쓰기 지연, 그룹 커밋 등)을 검증한다.
+// 테스트 트랜잭션 없이 실제로 커밋하므로 테스트마다 새 DB 로 컨텍스트를 다시 띄운다.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=MySQL"
+})
+public abstract class CommittedIntegrationTestContext extends IntegrationTestContext {
+}
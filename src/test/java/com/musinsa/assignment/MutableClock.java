@@ -0,0 +1,50 @@
+package com.musinsa.assignment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+// 테스트에서 시간을 직접 옮기기 위한 Clock. @Import(MutableClock.Config.class) 로 기본 Clock 대신 주입한다.
+public class MutableClock extends Clock {
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public MutableClock(LocalDateTime start) {
+        this.zone = ZoneId.systemDefault();
+        this.instant = start.atZone(zone).toInstant();
+    }
+
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        @Primary
+        public MutableClock mutableClock() {
+            return new MutableClock(LocalDateTime.of(2026, 1, 1, 0, 0));
+        }
+    }
+}
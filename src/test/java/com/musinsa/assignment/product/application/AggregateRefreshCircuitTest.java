@@ -0,0 +1,63 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class AggregateRefreshCircuitTest {
+
+    @Test
+    @DisplayName("재계산이 타임아웃되면 그 키는 열린 동안 재계산하지 않고 바로 실패하고, 다른 키는 계속 계산한다")
+    void call_openOnTimeout() {
+        // given
+        var circuit = new AggregateRefreshCircuit(Duration.ofMinutes(1));
+        var refreshes = new AtomicInteger();
+        assertThatThrownBy(() -> circuit.call("CATEGORY:MIN:TOP", () -> {
+            refreshes.incrementAndGet();
+            throw new QueryTimeoutException("timeout");
+        })).isInstanceOf(QueryTimeoutException.class);
+
+        // when & then
+        assertThatThrownBy(() -> circuit.call("CATEGORY:MIN:TOP", refreshes::incrementAndGet))
+            .isInstanceOf(QueryTimeoutException.class);
+        assertThat(refreshes.get()).isEqualTo(1);
+        assertThat(circuit.call("CATEGORY:MIN:BAG", () -> "BAG")).isEqualTo("BAG");
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 다시 재계산한다")
+    void call_closeAfterOpenDuration() {
+        // given
+        var circuit = new AggregateRefreshCircuit(Duration.ZERO);
+        assertThatThrownBy(() -> circuit.call("BRAND:MIN", () -> {
+            throw new QueryTimeoutException("timeout");
+        })).isInstanceOf(QueryTimeoutException.class);
+
+        // when
+        var result = circuit.call("BRAND:MIN", () -> "refreshed");
+
+        // then
+        assertThat(result).isEqualTo("refreshed");
+    }
+
+    @Test
+    @DisplayName("타임아웃이 아닌 실패는 회로를 열지 않는다")
+    void call_keepClosedOnOtherFailure() {
+        // given
+        var circuit = new AggregateRefreshCircuit(Duration.ofMinutes(1));
+        assertThatThrownBy(() -> circuit.call("BRAND:MIN", () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        var result = circuit.call("BRAND:MIN", () -> "refreshed");
+
+        // then
+        assertThat(result).isEqualTo("refreshed");
+    }
+}
@@ -0,0 +1,46 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BrandWriteLocksTest {
+    private final BrandWriteLocks brandWriteLocks = new BrandWriteLocks(16);
+
+    @Test
+    @DisplayName("그룹이 exclusively 로 잡고 있는 동안 다른 스레드의 브랜드 쓰기는 기다리고, 같은 스레드의 쓰기는 바로 잡힌다")
+    void exclusively() throws Exception {
+        // given
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+
+        // when
+        var group = executor.submit(() -> brandWriteLocks.exclusively(() -> {
+            var nested = brandWriteLocks.withLocks(List.of(1L, 2L), () -> "nested");
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return nested;
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        var other = executor.submit(() -> brandWriteLocks.withLocks(List.of(3L), () -> "other"));
+
+        // then
+        assertThatThrownBy(() -> other.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        release.countDown();
+        assertThat(group.get(5, TimeUnit.SECONDS)).isEqualTo("nested");
+        assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("other");
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,178 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.MutableClock;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository.ChangeType;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository.PriceChange;
+import com.musinsa.assignment.product.application.contract.PriceHistoryRepository.Snapshot;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Import(MutableClock.Config.class)
+class PriceHistoryServiceIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private PriceHistoryService priceHistoryService;
+
+    @Autowired
+    private PriceHistoryRepository priceHistoryRepository;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("스냅샷 이후 시점의 통계는 스냅샷에 이후 이력을 재생해 계산하고, 이전 시점은 그 시점의 가격을 유지한다")
+    void aggregateAsOf_snapshotAndReplay() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+        clock.advance(Duration.ofMinutes(1));
+        priceHistoryService.takeSnapshot();
+        var snapshotAt = LocalDateTime.now(clock);
+        clock.advance(Duration.ofMinutes(1));
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 20000));
+        clock.advance(Duration.ofMinutes(1));
+
+        // when
+        var atSnapshot = priceHistoryService.aggregateAsOf(snapshotAt);
+        var afterUpdate = priceHistoryService.aggregateAsOf(LocalDateTime.now(clock));
+
+        // then
+        assertThat(priceHistoryRepository.findLatestSnapshot(LocalDateTime.now(clock)))
+            .map(Snapshot::takenAt)
+            .contains(snapshotAt);
+        assertThat(countSnapshotProducts()).isEqualTo(Category.values().length + 1);
+        assertThat(atSnapshot.minPriceProducts().get(Category.TOP).getPrice()).isEqualTo(500);
+        assertThat(afterUpdate.minPriceProducts().get(Category.TOP).getPrice()).isEqualTo(10000);
+        assertThat(afterUpdate.maxPriceProducts().get(Category.TOP).getPrice()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 찍은 뒤에 커밋된 이전 시각의 이력은 재생에 포함되고, 다음 스냅샷에 한 번만 반영된다")
+    void takeSnapshot_lateCommit() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var top = findProduct(brandId, Category.TOP);
+        var changedBeforeSnapshot = LocalDateTime.now(clock).plusSeconds(30);
+        clock.advance(Duration.ofMinutes(1));
+        priceHistoryService.takeSnapshot();
+
+        // when
+        // 스냅샷 전에 시작해 스냅샷 뒤에 커밋된 트랜잭션의 이력
+        priceHistoryRepository.appendAll(List.of(
+            new PriceChange(top.getId(), brandId, Category.TOP, 500 - top.getPrice(), ChangeType.UPDATED, changedBeforeSnapshot)
+        ));
+        clock.advance(Duration.ofMinutes(1));
+        var beforeNextSnapshot = priceHistoryService.aggregateAsOf(LocalDateTime.now(clock));
+        priceHistoryService.takeSnapshot();
+        clock.advance(Duration.ofMinutes(1));
+        var afterNextSnapshot = priceHistoryService.aggregateAsOf(LocalDateTime.now(clock));
+
+        // then
+        assertThat(countSnapshots()).isEqualTo(2);
+        assertThat(beforeNextSnapshot.minPriceProducts().get(Category.TOP).getPrice()).isEqualTo(500);
+        assertThat(afterNextSnapshot.minPriceProducts().get(Category.TOP).getPrice()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품의 수정 이력이 삭제 뒤에 재생되어도 상품을 되살리지 않는다")
+    void aggregateAsOf_updateAfterRemove() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+        clock.advance(Duration.ofMinutes(1));
+        productService.removeProduct(productId);
+        clock.advance(Duration.ofMinutes(1));
+
+        // when
+        // 삭제 전에 받은 수정이 삭제 뒤의 시각으로 늦게 기록된 경우
+        priceHistoryRepository.appendAll(List.of(
+            new PriceChange(productId, brandId, Category.TOP, -100, ChangeType.UPDATED, LocalDateTime.now(clock))
+        ));
+        clock.advance(Duration.ofMinutes(1));
+        var aggregates = priceHistoryService.aggregateAsOf(LocalDateTime.now(clock));
+
+        // then
+        assertThat(aggregates.minPriceProducts().get(Category.TOP).getId()).isNotEqualTo(productId);
+        assertThat(aggregates.minPriceProducts().get(Category.TOP).getPrice()).isEqualTo(10000);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 스냅샷을 찍어도 같은 변경으로 스냅샷이 중복 생성되지 않는다")
+    void takeSnapshot_concurrent() throws Exception {
+        // given
+        initBrandData("A", 10000);
+        clock.advance(Duration.ofMinutes(1));
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(4);
+
+        // when
+        var results = new ArrayList<Future<?>>();
+        for (var i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                priceHistoryService.takeSnapshot();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (var result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(countSnapshots()).isEqualTo(1);
+        assertThat(countSnapshotProducts()).isEqualTo(Category.values().length);
+    }
+
+    private Integer countSnapshots() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_snapshot", Integer.class);
+    }
+
+    private Integer countSnapshotProducts() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_price_snapshot", Integer.class);
+    }
+
+    private Product findProduct(Long brandId, Category category) {
+        return productRepository.findAllByBrandId(brandId).stream()
+            .filter(product -> product.getCategory() == category)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
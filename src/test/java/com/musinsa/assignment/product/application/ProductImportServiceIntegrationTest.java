@@ -0,0 +1,128 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.ImportRowDto;
+import com.musinsa.assignment.product.domain.Brand;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.presentation.ProductController.ImportError;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+// 배치마다 따로 커밋하므로 테스트 트랜잭션 없이 검증한다.
+@TestPropertySource(properties = "application.import.batch-size=1")
+class ProductImportServiceIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Test
+    @DisplayName("일괄 등록하면 올바른 행만 저장되고 잘못된 행은 줄 번호와 함께 보고된다")
+    void importProducts() {
+        // given
+        var brandId = brandRepository.save(new Brand("A"));
+        productRepository.save(new Product(brandId, Category.TOP, 1000));
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
+        var rows = List.of(
+            ImportRowDto.ofProduct(1, brandId, Category.TOP, 1000),
+            ImportRowDto.ofProduct(2, brandId + 1000, Category.TOP, 1000),
+            ImportRowDto.ofProduct(3, brandId, Category.TOP, -1),
+            brandRow(4, "B", 500)
+        );
+
+        // when
+        var response = productImportService.importProducts(rows.iterator());
+
+        // then
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(2);
+        assertThat(response.errors().stream().map(ImportError::lineNumber).collect(Collectors.toList()))
+            .containsExactly(2L, 3L);
+        assertThat(productRepository.findAllByBrandId(brandId)).hasSize(2);
+        assertThat(cacheManager.get("CATEGORY:MIN:TOP", Product.class)).isEmpty();
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
+        assertThat(cacheManager.get("CATEGORY:MIN:TOP", Product.class).get().getPrice()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 행마다 다시 저장해 실패한 행만 실제 사유와 함께 보고한다")
+    void importProducts_retryRowByRow() {
+        // given
+        var brandId = brandRepository.save(new Brand("A"));
+        var rows = List.of(
+            brandRow(1, "B", 500),
+            brandRow(2, "C".repeat(300), 400),
+            ImportRowDto.ofProduct(3, brandId, Category.TOP, 1000)
+        );
+
+        // when
+        var response = productImportService.importProducts(rows.iterator());
+
+        // then
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(1);
+        assertThat(response.errors()).hasSize(1);
+        assertThat(response.errors().get(0).lineNumber()).isEqualTo(2L);
+        assertThat(response.errors().get(0).reason()).startsWith("저장에 실패했습니다.").contains("NAME");
+        assertThat(productRepository.findAllByBrandId(brandId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("배치가 커밋되는 동안에는 통계 캐시를 무효화하지 않고, 마지막 배치가 끝난 뒤 한 번 무효화한다")
+    void importProducts_refreshAggregatesOnce() {
+        // given
+        var brandId = brandRepository.save(new Brand("A"));
+        productRepository.save(new Product(brandId, Category.TOP, 1000));
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
+        var cachedDuringImport = new ArrayList<Integer>();
+        var rows = List.of(
+            brandRow(1, "B", 500),
+            brandRow(2, "C", 400),
+            brandRow(3, "D", 300)
+        ).iterator();
+
+        // when
+        // 배치 크기가 1 이므로 다음 행을 읽을 때는 앞 행이 이미 커밋되어 있다.
+        var response = productImportService.importProducts(new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public ImportRowDto next() {
+                cacheManager.get("CATEGORY:MIN:TOP", Product.class)
+                    .map(Product::getPrice)
+                    .ifPresent(cachedDuringImport::add);
+                return rows.next();
+            }
+        });
+
+        // then
+        assertThat(response.importedRows()).isEqualTo(3);
+        assertThat(cachedDuringImport).containsExactly(1000, 1000, 1000);
+        assertThat(cacheManager.get("CATEGORY:MIN:TOP", Product.class)).isEmpty();
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
+        assertThat(cacheManager.get("CATEGORY:MIN:TOP", Product.class).get().getPrice()).isEqualTo(300);
+    }
+
+    private ImportRowDto brandRow(long lineNumber, String brandName, int price) {
+        return ImportRowDto.ofBrand(
+            lineNumber,
+            brandName,
+            Arrays.stream(Category.values())
+                .map(category -> new AddBrandDto.Product(category, price))
+                .collect(Collectors.toList())
+        );
+    }
+}
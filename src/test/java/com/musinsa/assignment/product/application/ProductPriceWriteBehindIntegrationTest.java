@@ -0,0 +1,160 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.application.listener.event.ProductChangeEvent;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RecordApplicationEvents
+@TestPropertySource(properties = {
+    "application.catalog.store=heap",
+    "application.write-behind.enabled=true",
+    "application.write-behind.flush-interval=PT1H"
+})
+class ProductPriceWriteBehindIntegrationTest extends CommittedIntegrationTestContext {
+
+    @TempDir
+    static Path journalDir;
+
+    @Autowired
+    private ProductPriceWriteBehind productPriceWriteBehind;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @DynamicPropertySource
+    static void journalDir(DynamicPropertyRegistry registry) {
+        registry.add("application.write-behind.journal-dir", () -> journalDir.toString());
+    }
+
+    @Test
+    @DisplayName("가격만 바꾸면 캐시는 바로 반영되고 DB 는 flush 시점에 마지막 가격으로 반영된다")
+    void updateProduct_writeBehind() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 20000));
+
+        // when
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 1));
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 2));
+
+        // then
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
+        assertThat(cacheManager.get("CATEGORY:MIN:TOP", Product.class).get().getId()).isEqualTo(productId);
+        assertThat(productRepository.findById(productId).get().getPrice()).isEqualTo(20000);
+
+        productPriceWriteBehind.flush();
+        assertThat(productRepository.findById(productId).get().getPrice()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 중인 가격 수정 뒤에 카테고리를 바꾸면 대기 중인 수정은 버려진다")
+    void updateProduct_dropPending() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 20000));
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 1));
+
+        // when
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.HAT, 30000));
+        productPriceWriteBehind.flush();
+
+        // then
+        var product = productRepository.findById(productId).get();
+        assertThat(product.getCategory()).isEqualTo(Category.HAT);
+        assertThat(product.getPrice()).isEqualTo(30000);
+    }
+
+    @Test
+    @DisplayName("가격 수정을 받은 트랜잭션이 롤백되면 그 수정은 DB 에 반영되지 않는다")
+    void updateProduct_rollbackAccept() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 20000));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 1));
+            status.setRollbackOnly();
+        });
+        productPriceWriteBehind.flush();
+
+        // then
+        assertThat(productRepository.findById(productId).get().getPrice()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("대기 중인 수정을 버린 동기 수정이 롤백되면 대기 중인 수정은 다시 반영 대상이 된다")
+    void updateProduct_rollbackDrop() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 20000));
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 1));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.updateProduct(productId, new UpdateProductDto(brandId, Category.HAT, 30000));
+            status.setRollbackOnly();
+        });
+        productPriceWriteBehind.flush();
+
+        // then
+        var product = productRepository.findById(productId).get();
+        assertThat(product.getCategory()).isEqualTo(Category.TOP);
+        assertThat(product.getPrice()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 가격이 있는 상품을 다시 수정하면 대기 중인 가격을 이전 가격으로 발행하고, flush 는 이벤트를 다시 발행하지 않는다")
+    void updateProduct_previousIsPending() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 1000));
+        applicationEvents.clear();
+
+        // when
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 700));
+        productPriceWriteBehind.flush();
+
+        // then
+        assertThat(applicationEvents.stream(ProductChangeEvent.class)
+            .flatMap(event -> event.previousProducts().stream())
+            .map(Product::getPrice)
+            .collect(Collectors.toList()))
+            .containsExactly(1000);
+        assertThat(productRepository.findById(productId).get().getPrice()).isEqualTo(700);
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
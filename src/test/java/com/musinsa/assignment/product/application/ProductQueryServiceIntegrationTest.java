@@ -0,0 +1,214 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.assignment.IntegrationTestContext;
+import com.musinsa.assignment.MutableClock;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.SearchProductsDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.application.exception.InvalidCursorException;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.presentation.ProductController.BrandProductsResponse;
+import com.musinsa.assignment.product.presentation.ProductController.CategoryMinMaxPricesResponse;
+import com.musinsa.assignment.product.presentation.ProductController.ProductSummaryResponse;
+import com.musinsa.assignment.product.presentation.ProductController.SearchProductsResponse;
+import com.musinsa.assignment.product.presentation.ProductController.SearchedProduct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(MutableClock.Config.class)
+class ProductQueryServiceIntegrationTest extends IntegrationTestContext {
+
+    @Autowired
+    private MutableClock clock;
+
+    @Test
+    @DisplayName("카테고리와 가격 구간으로 검색하면 가격순으로 커서를 따라 모든 상품을 조회한다")
+    void searchProducts_cursor() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productIds = new ArrayList<Long>();
+        for (var price = 5000; price >= 1000; price -= 1000) {
+            productIds.add(0, productService.addProduct(new AddProductDto(brandId, Category.SHOES, price)));
+        }
+        productIds.add(findProductId(brandId, Category.SHOES, 10000));
+
+        // when
+        var pages = new ArrayList<SearchProductsResponse>();
+        String cursor = null;
+        do {
+            var page = productQueryService.searchProducts(
+                new SearchProductsDto(Category.SHOES, null, null, false, cursor, 2)
+            );
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).hasSize(3);
+        assertThat(pages.stream().flatMap(page -> page.products().stream()).map(SearchedProduct::id))
+            .containsExactlyElementsOf(productIds);
+        assertThat(pages.get(0).products().get(0).brand()).isEqualTo("A");
+    }
+
+    @Test
+    @DisplayName("가격 내림차순으로 검색하면 가격 구간 안의 비싼 상품부터 조회한다")
+    void searchProducts_descending() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var cheapId = productService.addProduct(new AddProductDto(brandId, Category.HAT, 1000));
+        var expensiveId = productService.addProduct(new AddProductDto(brandId, Category.HAT, 20000));
+        productService.addProduct(new AddProductDto(brandId, Category.HAT, 30000));
+
+        // when
+        var response = productQueryService.searchProducts(
+            new SearchProductsDto(Category.HAT, 1000, 20000, true, null, 10)
+        );
+
+        // then
+        assertThat(response.products().stream().map(SearchedProduct::id).collect(Collectors.toList()))
+            .containsExactly(expensiveId, findProductId(brandId, Category.HAT, 10000), cheapId);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("브랜드 상품을 커서로 나눠 조회하면 카테고리 경계를 넘어 (카테고리, 가격, id) 순으로 모두 조회하고 마지막 페이지에는 커서가 없다")
+    void getBrandProducts_cursor() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var otherBrandId = initBrandData("B", 1000);
+        productService.addProduct(new AddProductDto(brandId, Category.TOP, 5000));
+        productService.addProduct(new AddProductDto(brandId, Category.OUTER, 3000));
+        productService.addProduct(new AddProductDto(otherBrandId, Category.TOP, 500));
+
+        var expectedIds = productRepository.findAllByBrandId(brandId).stream()
+            .sorted(Comparator.comparing((Product product) -> product.getCategory().name())
+                .thenComparing(Product::getPrice)
+                .thenComparing(Product::getId))
+            .map(Product::getId)
+            .collect(Collectors.toList());
+
+        // when
+        var pages = new ArrayList<BrandProductsResponse>();
+        String cursor = null;
+        do {
+            var page = productQueryService.getBrandProducts(brandId, cursor, 3);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(expectedIds).hasSize(Category.values().length + 2);
+        assertThat(pages).extracting(page -> page.products().size()).containsExactly(3, 3, 3, 1);
+        assertThat(pages.stream().flatMap(page -> page.products().stream()).map(SearchedProduct::id))
+            .containsExactlyElementsOf(expectedIds);
+        assertThat(pages).allMatch(page -> page.brandName().equals("A"));
+    }
+
+    @Test
+    @DisplayName("같은 커서로 다시 조회하면 같은 페이지를 반환하고, 남은 상품이 페이지 크기와 같으면 다음 커서가 없다")
+    void getBrandProducts_cursorRoundTrip() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var firstPage = productQueryService.getBrandProducts(brandId, null, 3);
+
+        // when
+        var secondPage = productQueryService.getBrandProducts(brandId, firstPage.nextCursor(), 5);
+        var secondPageAgain = productQueryService.getBrandProducts(brandId, firstPage.nextCursor(), 5);
+
+        // then
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(secondPage).isEqualTo(secondPageAgain);
+        assertThat(secondPage.products()).hasSize(Category.values().length - 3);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서로 조회하면 예외가 발생한다")
+    void getBrandProducts_invalidCursor() {
+        // given
+        var brandId = initBrandData("A", 10000);
+
+        // when & then
+        assertThatThrownBy(() -> productQueryService.getBrandProducts(brandId, "not-a-cursor", 3))
+            .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("요약 조회는 카테고리 별 최저/최고가를 개별 조회와 같은 값으로 한 번에 반환한다")
+    void getSummary() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        productService.addProduct(new AddProductDto(brandId, Category.TOP, 1));
+        productService.addProduct(new AddProductDto(brandId, Category.TOP, 99_999_999));
+
+        // when
+        var summary = productQueryService.getSummary();
+
+        // then
+        assertThat(summary.categoriesMinPrices()).isEqualTo(productQueryService.getCategoriesMinPrices());
+        assertThat(summary.brandMinPrices()).isEqualTo(productQueryService.getBrandMinPrices());
+        assertThat(summary.categoryMinMaxPrices())
+            .hasSize(Category.values().length)
+            .contains(productQueryService.getCategoryMinMaxPrices(Category.TOP));
+    }
+
+    @Test
+    @DisplayName("과거 시점으로 요약을 조회하면 그 이후의 가격 변경은 반영되지 않는다")
+    void getSummaryAsOf() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+        var beforeUpdate = LocalDateTime.now(clock);
+        clock.advance(Duration.ofSeconds(1));
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 20000));
+
+        // when
+        var past = productQueryService.getSummaryAsOf(beforeUpdate);
+        var now = productQueryService.getSummaryAsOf(LocalDateTime.now(clock));
+
+        // then
+        assertThat(findTop(past).minPrices().get(0).price()).isEqualTo(500);
+        assertThat(findTop(past).maxPrices().get(0).price()).isEqualTo(10000);
+        assertThat(findTop(now).minPrices().get(0).price()).isEqualTo(10000);
+        assertThat(findTop(now).maxPrices().get(0).price()).isEqualTo(20000);
+    }
+
+    private CategoryMinMaxPricesResponse findTop(ProductSummaryResponse summary) {
+        return summary.categoryMinMaxPrices().stream()
+            .filter(response -> response.category().equals("상의"))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Long findProductId(Long brandId, Category category, int price) {
+        return productRepository.findAllByBrandId(brandId).stream()
+            .filter(product -> product.getCategory() == category && product.getPrice() == price)
+            .findFirst()
+            .orElseThrow()
+            .getId();
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
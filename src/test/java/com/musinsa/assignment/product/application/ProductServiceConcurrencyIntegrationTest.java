@@ -0,0 +1,77 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.exception.CategoryEmptyException;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductServiceConcurrencyIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Test
+    @DisplayName("같은 브랜드/카테고리에 남은 상품 두 개를 동시에 삭제하면 하나만 삭제되고 나머지는 CategoryEmptyException 이 발생한다")
+    void removeProduct_concurrent() throws Exception {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var executor = Executors.newFixedThreadPool(2);
+
+        for (var round = 0; round < 20; round++) {
+            var productIds = productRepository.findAllByBrandId(brandId).stream()
+                .filter(product -> product.getCategory() == Category.TOP)
+                .map(Product::getId)
+                .collect(Collectors.toCollection(ArrayList::new));
+            productIds.add(productService.addProduct(new AddProductDto(brandId, Category.TOP, 20000)));
+            assertThat(productIds).hasSize(2);
+
+            // when
+            var start = new CountDownLatch(1);
+            var results = new ArrayList<Future<?>>();
+            for (var productId : productIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    productService.removeProduct(productId);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // then
+            var failures = new ArrayList<Throwable>();
+            for (var result : results) {
+                try {
+                    result.get(10, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            assertThat(failures).hasSize(1);
+            assertThat(failures.get(0)).isInstanceOf(CategoryEmptyException.class);
+            assertThat(productRepository.countByBrandAndCategory(brandId, Category.TOP)).isEqualTo(1);
+        }
+        executor.shutdown();
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
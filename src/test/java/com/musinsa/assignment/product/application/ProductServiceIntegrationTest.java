@@ -1,11 +1,13 @@
 package com.musinsa.assignment.product.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.musinsa.assignment.IntegrationTestContext;
 import com.musinsa.assignment.product.application.dto.AddBrandDto;
 import com.musinsa.assignment.product.application.dto.AddProductDto;
 import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.application.exception.BrandNotFoundException;
 import com.musinsa.assignment.product.application.listener.ProductEventListener.BrandMinCacheData;
 import com.musinsa.assignment.product.domain.Brand;
 import com.musinsa.assignment.product.domain.Product;
@@ -33,6 +35,8 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         );
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
         assertThat(productRepository.findById(id)).isPresent();
         assertThat(cacheManager.get("CATEGORY:MAX:TOP", Product.class)).isPresent();
         assertThat(cacheManager.get("CATEGORY:MAX:TOP", Product.class).get().getId()).isEqualTo(id);
@@ -54,11 +58,30 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         );
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getCategoryMinMaxPrices(Category.SHOES);
         assertThat(productRepository.findById(id)).isPresent();
         assertThat(cacheManager.get("CATEGORY:MIN:SHOES", Product.class)).isPresent();
         assertThat(cacheManager.get("CATEGORY:MIN:SHOES", Product.class).get().getId()).isEqualTo(id);
     }
 
+    @Test
+    @DisplayName("존재하지 않는 브랜드로 상품을 추가하면 BrandNotFoundException 이 발생한다")
+    void addProduct_brandNotFound() {
+        // given
+        var brandId = initBrandData("A", 10000);
+
+        // when, then
+        assertThatThrownBy(() -> productService.addProduct(
+            new AddProductDto(
+                brandId + 1000,
+                Category.TOP,
+                20000
+            )
+        )).isInstanceOf(BrandNotFoundException.class);
+        assertThat(brandRepository.findById(brandId + 1000)).isEmpty();
+    }
+
     @Test
     @DisplayName("상품 카테고리가 변경되고 카테고리별 가장 비싼 가격이 캐시에 반영된다")
     void updateProduct_maxPrice() {
@@ -83,6 +106,9 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         );
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getCategoryMinMaxPrices(Category.SHOES);
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
         assertThat(productRepository.findById(productId)).isPresent();
         assertThat(productRepository.findById(productId).get().getCategory()).isEqualTo(Category.TOP);
         assertThat(cacheManager.get("CATEGORY:MAX:SHOES", Product.class)).isPresent();
@@ -115,6 +141,9 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         );
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getCategoryMinMaxPrices(Category.SHOES);
+        productQueryService.getCategoryMinMaxPrices(Category.TOP);
         assertThat(productRepository.findById(productId)).isPresent();
         assertThat(productRepository.findById(productId).get().getCategory()).isEqualTo(Category.TOP);
         assertThat(cacheManager.get("CATEGORY:MIN:SHOES", Product.class)).isPresent();
@@ -148,6 +177,8 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         );
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getBrandMinPrices();
         assertThat(productRepository.findById(productId)).isPresent();
         assertThat(productRepository.findById(productId).get().getBrandId()).isEqualTo(afterBrandId);
         assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class)).isPresent();
@@ -174,6 +205,8 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         productService.removeProduct(productId);
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getCategoryMinMaxPrices(Category.SHOES);
         assertThat(productRepository.findById(productId)).isEmpty();
         assertThat(cacheManager.get("CATEGORY:MAX:SHOES", Product.class)).isPresent();
         assertThat(cacheManager.get("CATEGORY:MAX:SHOES", Product.class).get().getId()).isNotEqualTo(productId);
@@ -196,6 +229,8 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         productService.removeProduct(productId);
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getCategoryMinMaxPrices(Category.SHOES);
         assertThat(productRepository.findById(productId)).isEmpty();
         assertThat(cacheManager.get("CATEGORY:MIN:SHOES", Product.class)).isPresent();
         assertThat(cacheManager.get("CATEGORY:MIN:SHOES", Product.class).get().getId()).isNotEqualTo(productId);
@@ -223,6 +258,8 @@ class ProductServiceIntegrationTest extends IntegrationTestContext {
         var newBrandId = productService.addBrand(dto);
 
         // then
+        // 무효화된 통계는 다음 조회 때 다시 계산된다.
+        productQueryService.getBrandMinPrices();
         assertThat(brandRepository.findById(newBrandId)).isPresent();
         assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class)).isPresent();
         assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class).get().products().stream()
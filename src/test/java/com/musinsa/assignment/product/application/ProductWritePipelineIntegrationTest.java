@@ -0,0 +1,129 @@
+package com.musinsa.assignment.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.listener.event.ProductBatchChangeEvent;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "application.catalog.store=heap",
+    "application.group-commit.enabled=true",
+    "application.group-commit.max-batch-size=3",
+    "application.group-commit.max-wait-micros=1000000"
+})
+class ProductWritePipelineIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private ProductWritePipeline productWritePipeline;
+
+    @Autowired
+    private BatchEventRecorder batchEventRecorder;
+
+    @Test
+    @DisplayName("한 그룹의 요청은 한 트랜잭션으로 커밋되어 커밋 후 하나의 배치 이벤트로 반영된다")
+    void submit_groupCommit() throws Exception {
+        // given
+        var brandId = initBrandData("A", 10000);
+        batchEventRecorder.events.clear();
+
+        // when
+        var futures = List.of(
+            productWritePipeline.addProduct(new AddProductDto(brandId, Category.TOP, 500)),
+            productWritePipeline.addProduct(new AddProductDto(brandId, Category.BAG, 600)),
+            productWritePipeline.addProduct(new AddProductDto(brandId, Category.HAT, 700))
+        );
+        for (var future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(batchEventRecorder.events.stream()
+            .map(event -> event.changes().size())
+            .collect(Collectors.toList()))
+            .containsExactly(3);
+        assertThat(productQueryService.getCategoryMinMaxPrices(Category.TOP).minPrices().get(0).price()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("그룹 안에서 실패한 요청만 롤백되고, 그 요청이 바꾼 메모리 상태(브랜드 목록)도 되돌린다")
+    void submit_failureIsolation() throws Exception {
+        // given
+        var brandId = initBrandData("A", 10000);
+
+        // when
+        var first = productWritePipeline.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+        // 브랜드를 저장한 뒤 가격이 없는 상품을 저장하다 실패한다.
+        var failed = productWritePipeline.addBrand(
+            new AddBrandDto("B", List.of(new AddBrandDto.Product(Category.TOP, null)))
+        );
+        var third = productWritePipeline.addProduct(new AddProductDto(brandId, Category.BAG, 600));
+
+        // then
+        assertThat(productRepository.findById(first.get(5, TimeUnit.SECONDS))).isPresent();
+        assertThat(productRepository.findById(third.get(5, TimeUnit.SECONDS))).isPresent();
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        // 새 DB 에서 A 다음으로 저장된 브랜드 id
+        assertThat(brandRepository.existsById(brandId + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("닫을 때 이미 받은 요청은 모두 커밋하고, 이후 요청은 거절한다")
+    void close_drain() throws Exception {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var futures = new ArrayList<CompletableFuture<Long>>();
+        for (var i = 0; i < 5; i++) {
+            futures.add(productWritePipeline.addProduct(new AddProductDto(brandId, Category.TOP, 1000 + i)));
+        }
+
+        // when
+        productWritePipeline.close();
+
+        // then
+        for (var future : futures) {
+            assertThat(future).isCompleted();
+            assertThat(productRepository.findById(future.get())).isPresent();
+        }
+        assertThatThrownBy(() -> productWritePipeline.addProduct(new AddProductDto(brandId, Category.TOP, 1)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @TestConfiguration
+    static class BatchEventRecorder {
+        private final List<ProductBatchChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void record(ProductBatchChangeEvent event) {
+            events.add(event);
+        }
+    }
+}
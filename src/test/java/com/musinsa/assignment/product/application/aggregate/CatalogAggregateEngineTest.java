@@ -0,0 +1,172 @@
+package com.musinsa.assignment.product.application.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.infra.ColumnarProductCatalog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CatalogAggregateEngineTest {
+
+    @Test
+    @DisplayName("가격이 같으면 id 가 큰 상품을, 브랜드 합계가 같으면 id 가 작은 브랜드를 고른다")
+    void compute_tieBreak() {
+        // given
+        var catalog = new ColumnarProductCatalog();
+        var id = 1L;
+        for (var brandId = 1L; brandId <= 2; brandId++) {
+            for (var category : Category.values()) {
+                catalog.put(new Product(id++, brandId, category, 1000));
+            }
+        }
+        var engine = new CatalogAggregateEngine(catalog);
+
+        // when
+        var aggregates = engine.compute();
+
+        // then
+        assertThat(aggregates.minPriceProducts().get(Category.TOP).getBrandId()).isEqualTo(2L);
+        assertThat(aggregates.maxPriceProducts().get(Category.TOP).getBrandId()).isEqualTo(2L);
+        assertThat(aggregates.brandMinPriceProducts())
+            .hasSize(Category.values().length)
+            .allMatch(product -> product.getBrandId() == 1L);
+    }
+
+    @Test
+    @DisplayName("구간을 나눠 병렬로 집계해도 한 번에 훑은 결과와 같다")
+    void compute_forkJoin() {
+        // given
+        var random = new Random(42);
+        var catalog = new ColumnarProductCatalog();
+        var products = new ArrayList<Product>();
+        for (var id = 1L; id <= 200_000; id++) {
+            var product = new Product(
+                id,
+                1L + random.nextInt(500),
+                Category.values()[random.nextInt(Category.values().length)],
+                1 + random.nextInt(100_000)
+            );
+            products.add(product);
+            catalog.put(product);
+        }
+        var engine = new CatalogAggregateEngine(catalog, new ForkJoinPool(4));
+
+        // when
+        var aggregates = engine.compute();
+
+        // then
+        var expected = bruteForce(products);
+        for (var category : Category.values()) {
+            assertThat(aggregates.minPriceProducts().get(category).getId())
+                .isEqualTo(expected.minPriceProducts().get(category).getId());
+            assertThat(aggregates.maxPriceProducts().get(category).getId())
+                .isEqualTo(expected.maxPriceProducts().get(category).getId());
+        }
+        assertThat(aggregates.brandMinPriceProducts()).extracting(Product::getId)
+            .containsExactlyElementsOf(
+                expected.brandMinPriceProducts().stream().map(Product::getId).collect(Collectors.toList())
+            );
+    }
+
+    @Test
+    @DisplayName("상품이 없으면 빈 결과를 반환한다")
+    void compute_empty() {
+        // given
+        var engine = new CatalogAggregateEngine(new ColumnarProductCatalog());
+
+        // when
+        var aggregates = engine.compute();
+
+        // then
+        assertThat(aggregates.minPriceProducts()).isEmpty();
+        assertThat(aggregates.maxPriceProducts()).isEmpty();
+        assertThat(aggregates.brandMinPriceProducts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카탈로그가 바뀌지 않았으면 키 별 계산은 한 번 훑은 결과를 같이 쓰고, 바뀌면 다시 훑는다")
+    void compute_reuseUntilCatalogChanges() {
+        // given
+        var scans = new AtomicInteger();
+        var catalog = new ColumnarProductCatalog() {
+            @Override
+            public void scan(int fromSlot, int toSlot, Consumer<View> visitor) {
+                scans.incrementAndGet();
+                super.scan(fromSlot, toSlot, visitor);
+            }
+        };
+        var id = 1L;
+        for (var category : Category.values()) {
+            catalog.put(new Product(id++, 1L, category, 1000));
+        }
+        var engine = new CatalogAggregateEngine(catalog);
+
+        // when
+        for (var category : Category.values()) {
+            engine.computeMinPriceProduct(category);
+            engine.computeMaxPriceProduct(category);
+        }
+        engine.computeBrandMinPriceProducts();
+        var scansBeforeChange = scans.get();
+        catalog.put(new Product(id, 1L, Category.TOP, 500));
+        var minTop = engine.computeMinPriceProduct(Category.TOP);
+
+        // then
+        assertThat(scansBeforeChange).isEqualTo(1);
+        assertThat(scans.get()).isEqualTo(2);
+        assertThat(minTop).map(Product::getPrice).contains(500);
+    }
+
+    private static ProductAggregates bruteForce(List<Product> products) {
+        var minPriceProducts = new HashMap<Category, Product>();
+        var maxPriceProducts = new HashMap<Category, Product>();
+        var brandMinPriceProducts = new HashMap<Long, Map<Category, Product>>();
+
+        for (var product : products) {
+            minPriceProducts.merge(product.getCategory(), product, (left, right) -> cheaper(left, right));
+            maxPriceProducts.merge(product.getCategory(), product, (left, right) ->
+                right.getPrice() > left.getPrice()
+                    || (right.getPrice().equals(left.getPrice()) && right.getId() > left.getId()) ? right : left
+            );
+            brandMinPriceProducts.computeIfAbsent(product.getBrandId(), brandId -> new HashMap<>())
+                .merge(product.getCategory(), product, (left, right) -> cheaper(left, right));
+        }
+
+        Long cheapestBrandId = null;
+        var cheapestTotal = Long.MAX_VALUE;
+        for (var entry : brandMinPriceProducts.entrySet()) {
+            var total = entry.getValue().values().stream().mapToLong(Product::getPrice).sum();
+            if (total < cheapestTotal || (total == cheapestTotal && entry.getKey() < cheapestBrandId)) {
+                cheapestBrandId = entry.getKey();
+                cheapestTotal = total;
+            }
+        }
+
+        var cheapestProducts = brandMinPriceProducts.get(cheapestBrandId);
+        return new ProductAggregates(
+            minPriceProducts,
+            maxPriceProducts,
+            Arrays.stream(Category.values())
+                .filter(cheapestProducts::containsKey)
+                .map(cheapestProducts::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private static Product cheaper(Product left, Product right) {
+        return right.getPrice() < left.getPrice()
+            || (right.getPrice().equals(left.getPrice()) && right.getId() > left.getId()) ? right : left;
+    }
+}
@@ -0,0 +1,194 @@
+package com.musinsa.assignment.product.application.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.common.support.TransactionHooks;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.application.listener.ProductEventListener.BrandMinCacheData;
+import com.musinsa.assignment.product.application.listener.event.ProductBatchChangeEvent;
+import com.musinsa.assignment.product.domain.Brand;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RecordApplicationEvents
+class ProductEventListenerIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("한 트랜잭션의 변경은 커밋된 뒤 하나의 배치 이벤트로 발행되고, 롤백되면 발행되지 않는다")
+    void listen_batchAfterCommit() {
+        // given
+        var brandId = initBrandData("A", 10000);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+            productService.addProduct(new AddProductDto(brandId, Category.BAG, 600));
+            assertThat(applicationEvents.stream(ProductBatchChangeEvent.class)).isEmpty();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.addProduct(new AddProductDto(brandId, Category.TOP, 400));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(applicationEvents.stream(ProductBatchChangeEvent.class)
+            .map(event -> event.changes().size())
+            .collect(Collectors.toList()))
+            .containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("세이브포인트로 일부만 롤백되면 롤백된 변경은 커밋 후 배치 이벤트에서 빠진다")
+    void listen_partialRollback() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var savepointTemplate = new TransactionTemplate(transactionManager);
+        savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+            assertThatThrownBy(() -> savepointTemplate.executeWithoutResult(savepoint -> TransactionHooks.partial(() -> {
+                productService.addProduct(new AddProductDto(brandId, Category.BAG, 600));
+                throw new IllegalStateException("failed");
+            }))).isInstanceOf(IllegalStateException.class);
+        });
+
+        // then
+        assertThat(applicationEvents.stream(ProductBatchChangeEvent.class)
+            .flatMap(event -> event.changes().stream())
+            .flatMap(change -> change.savedProducts().stream())
+            .map(Product::getCategory)
+            .collect(Collectors.toList()))
+            .containsExactly(Category.TOP);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션 안에서 계산해 채운 통계 캐시는 롤백되면 버려지고, 커밋된 데이터로 다시 계산된다")
+    void rollback_discardLoadedAggregates() {
+        // given
+        initBrandData("A", 10000);
+        var expectedTotal = 10000 * Category.values().length;
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            // 이벤트 없이 저장해 롤백 시 무효화할 키를 리스너가 알 수 없는 경우
+            initBrandData("B", 5000);
+            assertThat(productQueryService.getCategoriesMinPrices().totalPrice()).isLessThan(expectedTotal);
+            assertThat(productQueryService.getBrandMinPrices().totalPrice()).isLessThan(expectedTotal);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class)).isEmpty();
+        Arrays.stream(Category.values())
+            .forEach(category -> assertThat(cacheManager.get("CATEGORY:MIN:" + category.name(), Product.class)).isEmpty());
+        assertThat(productQueryService.getCategoriesMinPrices().totalPrice()).isEqualTo(expectedTotal);
+        assertThat(productQueryService.getBrandMinPrices().totalPrice()).isEqualTo(expectedTotal);
+    }
+
+    @Test
+    @DisplayName("가장 싼 브랜드가 아닌 브랜드의 가격이 내려가면 커밋된 뒤 그 브랜드만 계산해 가장 싼 브랜드를 바꾼다")
+    void addProduct_targetedBrandMinPrice() {
+        // given
+        initBrandData("A", 10000);
+        var brandId = initBrandData("B", 11000);
+        productQueryService.getBrandMinPrices();
+
+        // when
+        var productId = productService.addProduct(
+            new AddProductDto(
+                brandId,
+                Category.TOP,
+                1000
+            )
+        );
+
+        // then
+        assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class)).isPresent();
+        assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class).get().products().stream()
+            .map(Product::getId)
+            .collect(Collectors.toList()))
+            .hasSize(Category.values().length)
+            .contains(productId);
+    }
+
+    @Test
+    @DisplayName("다른 브랜드들의 한 카테고리 가격이 내려가도 가장 싼 브랜드가 될 수 없으면 BRAND:MIN 과 다른 카테고리 캐시는 유지된다")
+    void updateProduct_keepUnaffectedKeys() {
+        // given
+        initBrandData("A", 10000);
+        var topProductIds = new ArrayList<Long>();
+        for (var i = 0; i < 9; i++) {
+            var brandId = initBrandData("B" + i, 11000);
+            productRepository.save(new Product(brandId, Category.TOP, 20000));
+            topProductIds.add(findProductId(brandId, Category.TOP, 11000));
+        }
+        productQueryService.getSummary();
+
+        // when
+        // 9 개 브랜드의 합계가 87500 으로 줄고, 나머지 카테고리를 최저가(10000)로 잡아도 80500 이라 A 의 80000 보다 싸질 수 없다.
+        transactionTemplate.executeWithoutResult(status -> topProductIds.forEach(productId -> {
+            var product = productRepository.findById(productId).orElseThrow();
+            productService.updateProduct(productId, new UpdateProductDto(product.getBrandId(), Category.TOP, 10500));
+        }));
+
+        // then
+        assertThat(cacheManager.get("BRAND:MIN", BrandMinCacheData.class)).isPresent();
+        assertThat(cacheManager.get("CATEGORY:MIN:TOP", Product.class)).isEmpty();
+        Arrays.stream(Category.values())
+            .filter(category -> category != Category.TOP)
+            .forEach(category -> {
+                assertThat(cacheManager.get("CATEGORY:MIN:" + category.name(), Product.class)).isPresent();
+                assertThat(cacheManager.get("CATEGORY:MAX:" + category.name(), Product.class)).isPresent();
+            });
+    }
+
+    private Long findProductId(Long brandId, Category category, int price) {
+        return productRepository.findAllByBrandId(brandId).stream()
+            .filter(product -> product.getCategory() == category && product.getPrice() == price)
+            .findFirst()
+            .orElseThrow()
+            .getId();
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        Long brandId = brandRepository.save(
+            new Brand(name)
+        );
+
+        Arrays.stream(Category.values())
+            .forEach(category -> productRepository.save(
+                new Product(
+                    brandId,
+                    category,
+                    price
+                )
+            ));
+
+        return brandId;
+    }
+}
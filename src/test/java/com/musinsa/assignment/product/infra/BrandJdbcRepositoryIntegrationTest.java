@@ -0,0 +1,70 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.domain.Brand;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BrandJdbcRepositoryIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("목록을 적재한 뒤 다른 인스턴스가 추가한 브랜드도 조회된다")
+    void findById_addedByOtherInstance() {
+        // given
+        var brandId = brandRepository.save(new Brand("A"));
+        assertThat(brandRepository.existsById(brandId)).isTrue();
+
+        // when
+        jdbcTemplate.update("INSERT INTO brand (name) VALUES ('B')");
+        var otherBrandId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM brand", Long.class);
+
+        // then
+        assertThat(brandRepository.findById(otherBrandId)).map(Brand::getName).contains("B");
+        assertThat(brandRepository.existsById(otherBrandId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("커밋되지 않은 브랜드는 다른 요청에 보이지 않고, 같은 트랜잭션에서는 보인다")
+    void existsById_uncommitted() throws Exception {
+        // given
+        var saved = new CountDownLatch(1);
+        var checked = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+
+        // when
+        var brandId = executor.submit(() -> transactionTemplate.execute(status -> {
+            var id = brandRepository.save(new Brand("A"));
+            assertThat(brandRepository.existsById(id)).isTrue();
+            saved.countDown();
+            try {
+                checked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return id;
+        }));
+        assertThat(saved.await(5, TimeUnit.SECONDS)).isTrue();
+        // 새 DB 에서 처음 저장된 브랜드 id
+        var existsBeforeCommit = brandRepository.existsById(1L);
+        checked.countDown();
+
+        // then
+        assertThat(existsBeforeCommit).isFalse();
+        assertThat(brandRepository.existsById(brandId.get(5, TimeUnit.SECONDS))).isTrue();
+        executor.shutdown();
+    }
+}
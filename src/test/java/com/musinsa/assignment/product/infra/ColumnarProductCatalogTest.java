@@ -0,0 +1,11 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+
+class ColumnarProductCatalogTest extends ProductCatalogContractTest {
+
+    @Override
+    protected ProductCatalog createCatalog() {
+        return new ColumnarProductCatalog(16);
+    }
+}
@@ -0,0 +1,12 @@
+package com.musinsa.assignment.product.infra;
+
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+
+class OffHeapProductCatalogTest extends ProductCatalogContractTest {
+
+    // chunk 를 작게 잡아 chunk 경계를 넘는 이동도 확인한다.
+    @Override
+    protected ProductCatalog createCatalog() {
+        return new OffHeapProductCatalog(6);
+    }
+}
@@ -0,0 +1,120 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 카탈로그 구현이 공통으로 지켜야 하는 동작. 구현마다 상속해서 createCatalog 만 정한다.
+abstract class ProductCatalogContractTest {
+
+    protected abstract ProductCatalog createCatalog();
+
+    @Test
+    @DisplayName("id 순서와 관계없이 넣어도 id 순으로 훑고, 같은 id 를 다시 넣으면 덮어쓴다")
+    void put() {
+        // given
+        var catalog = createCatalog();
+
+        // when
+        catalog.put(new Product(3L, 1L, Category.TOP, 300));
+        catalog.put(new Product(1L, 1L, Category.HAT, 100));
+        catalog.put(new Product(2L, 2L, Category.BAG, 200));
+        catalog.put(new Product(1L, 2L, Category.SOCKS, 150));
+
+        // then
+        assertThat(scan(catalog)).extracting(Product::getId).containsExactly(1L, 2L, 3L);
+        assertThat(catalog.size()).isEqualTo(3);
+        assertThat(catalog.findById(1L).get())
+            .usingRecursiveComparison()
+            .isEqualTo(new Product(1L, 2L, Category.SOCKS, 150));
+    }
+
+    @Test
+    @DisplayName("삭제한 상품은 조회되지 않고, 같은 id 로 다시 넣을 수 있다")
+    void remove() {
+        // given
+        var catalog = createCatalog();
+        catalog.put(new Product(1L, 1L, Category.TOP, 100));
+        catalog.put(new Product(2L, 1L, Category.TOP, 200));
+
+        // when
+        catalog.remove(1L);
+        catalog.remove(99L);
+
+        // then
+        assertThat(catalog.findById(1L)).isEmpty();
+        assertThat(catalog.size()).isEqualTo(1);
+        assertThat(scan(catalog)).extracting(Product::getId).containsExactly(2L);
+
+        catalog.put(new Product(1L, 1L, Category.HAT, 300));
+        assertThat(catalog.size()).isEqualTo(2);
+        assertThat(scan(catalog)).extracting(Product::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨 넣거나 중간에 끼워 넣어도 모든 상품이 id 순으로 유지된다")
+    void put_growAndInsertInMiddle() {
+        // given
+        var catalog = createCatalog();
+        var count = 5000;
+
+        // when
+        for (var id = 2L; id <= count * 2; id += 2) {
+            catalog.put(new Product(id, id % 7, Category.values()[(int) (id % 8)], (int) id));
+        }
+        for (var id = 1L; id < count * 2; id += 2) {
+            catalog.put(new Product(id, id % 7, Category.values()[(int) (id % 8)], (int) id));
+        }
+
+        // then
+        var products = scan(catalog);
+        assertThat(products).hasSize(count * 2);
+        for (var i = 0; i < products.size(); i++) {
+            assertThat(products.get(i).getId()).isEqualTo(i + 1L);
+            assertThat(products.get(i).getPrice()).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("절반 이상이 삭제되어 정리된 뒤에도 남은 상품은 그대로 조회된다")
+    void remove_compact() {
+        // given
+        var catalog = createCatalog();
+        for (var id = 1L; id <= 4000; id++) {
+            catalog.put(new Product(id, 1L, Category.TOP, (int) id));
+        }
+
+        // when
+        for (var id = 1L; id <= 4000; id++) {
+            if (id % 4 != 0) {
+                catalog.remove(id);
+            }
+        }
+
+        // then
+        assertThat(catalog.size()).isEqualTo(1000);
+        assertThat(catalog.slotCount()).isLessThan(4000);
+        assertThat(scan(catalog)).extracting(Product::getId)
+            .containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 1000).map(i -> i * 4).boxed().collect(Collectors.toList())
+            );
+        assertThat(catalog.findById(400L).get().getPrice()).isEqualTo(400);
+    }
+
+    private static List<Product> scan(ProductCatalog catalog) {
+        var products = new ArrayList<Product>();
+        catalog.read(() -> {
+            catalog.scan(0, catalog.slotCount(), view -> products.add(view.toProduct()));
+            return null;
+        });
+        return products;
+    }
+}
@@ -0,0 +1,60 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.contract.ProductCatalog;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = {
+    "application.catalog.store=heap"
+})
+class ProductCatalogIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("상품 변경은 커밋된 뒤에 카탈로그에 반영되고, 롤백되면 반영되지 않는다")
+    void addProduct_afterCommit() {
+        // given
+        var brandId = initBrandData("A", 10000);
+
+        // when
+        var rolledBackId = transactionTemplate.execute(status -> {
+            var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 500));
+            assertThat(productCatalog.findById(productId)).isEmpty();
+            status.setRollbackOnly();
+            return productId;
+        });
+        var committedId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 700));
+
+        // then
+        assertThat(productCatalog.findById(rolledBackId)).isEmpty();
+        assertThat(productCatalog.findById(committedId).get().getPrice()).isEqualTo(700);
+        assertThat(productCatalog.size()).isEqualTo(Category.values().length + 1);
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
@@ -0,0 +1,189 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.assignment.product.application.AggregateRefreshCircuit;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class ProductJdbcRepositoryTest {
+    private static final Map<String, ProductJdbcProperties.StatementProperties> STATEMENTS = Map.of(
+        "findMinPriceProduct", new ProductJdbcProperties.StatementProperties(Duration.ofMillis(1500), 50)
+    );
+
+    // 드라이버에 전달된 문장 설정. EXPLAIN 문장에 전달된 설정은 "explain " 으로 시작한다.
+    private final List<String> settings = new CopyOnWriteArrayList<>();
+    private volatile boolean forceTimeout;
+    private SingleConnectionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var connection = DriverManager.getConnection("jdbc:h2:mem:repository-" + UUID.randomUUID() + ";MODE=MySQL", "sa", "");
+        dataSource = new SingleConnectionDataSource(recording(connection), true);
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema.sql")).execute(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("설정이 있는 문장에만 타임아웃(초 단위로 올림)과 fetch size 를 지정한다")
+    void execute_statementSettings() {
+        // given
+        var productRepository = createRepository(Duration.ofSeconds(10));
+        var productId = productRepository.save(new Product(1L, Category.TOP, 1000));
+        settings.clear();
+
+        // when
+        var minPriceProduct = productRepository.findMinPriceProduct(Category.TOP);
+        var minPriceSettings = List.copyOf(settings);
+        settings.clear();
+        var product = productRepository.findById(productId);
+
+        // then
+        assertThat(minPriceProduct).map(Product::getId).contains(productId);
+        assertThat(minPriceSettings).containsExactly("queryTimeout=2", "fetchSize=50");
+        assertThat(product).isPresent();
+        assertThat(settings).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문장이 타임아웃되면 QueryTimeoutException 으로 던지고 실패로 집계한다")
+    void execute_timeout() {
+        // given
+        var productRepository = createRepository(Duration.ofSeconds(10));
+        productRepository.save(new Product(1L, Category.TOP, 1000));
+        forceTimeout = true;
+
+        // when & then
+        assertThatThrownBy(() -> productRepository.findMinPriceProduct(Category.TOP))
+            .isInstanceOf(QueryTimeoutException.class);
+        assertThat(productRepository.statementMetrics().get("findMinPriceProduct").errors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("통계 재계산 문장이 타임아웃되면 캐시는 무효화 전 값을 내주고, 회로가 열린 동안은 문장을 다시 실행하지 않는다")
+    void execute_timeoutServesStaleAggregate() {
+        // given
+        var productRepository = createRepository(Duration.ofSeconds(10));
+        var productId = productRepository.save(new Product(1L, Category.TOP, 1000));
+        var cacheManager = new SimpleCacheManager();
+        var circuit = new AggregateRefreshCircuit(Duration.ofMinutes(1));
+        var key = "CATEGORY:MIN:TOP";
+        cacheManager.getOrLoad(key, Product.class, () -> circuit.call(
+            key, () -> productRepository.findMinPriceProduct(Category.TOP).orElse(null)
+        ));
+        productRepository.save(new Product(2L, Category.TOP, 500));
+        cacheManager.invalidate(key);
+
+        // when
+        forceTimeout = true;
+        var timedOut = cacheManager.getOrLoad(key, Product.class, () -> circuit.call(
+            key, () -> productRepository.findMinPriceProduct(Category.TOP).orElse(null)
+        ));
+        forceTimeout = false;
+        var circuitOpen = cacheManager.getOrLoad(key, Product.class, () -> circuit.call(
+            key, () -> productRepository.findMinPriceProduct(Category.TOP).orElse(null)
+        ));
+
+        // then
+        assertThat(timedOut).map(Product::getId).contains(productId);
+        assertThat(circuitOpen).map(Product::getId).contains(productId);
+        assertThat(productRepository.statementMetrics().get("findMinPriceProduct").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("느린 조회 문장의 실행 계획도 그 문장의 타임아웃 안에서만 구한다")
+    void slowQuery_explainWithStatementTimeout() throws InterruptedException {
+        // given
+        var productRepository = createRepository(Duration.ZERO);
+        productRepository.save(new Product(1L, Category.TOP, 1000));
+        settings.clear();
+
+        // when
+        productRepository.findMinPriceProduct(Category.TOP);
+
+        // then
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!settings.contains("explain queryTimeout=2")) {
+            assertThat(System.nanoTime()).as("explain not run in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        productRepository.close();
+    }
+
+    private ProductJdbcRepository createRepository(Duration slowQueryThreshold) {
+        return new ProductJdbcRepository(
+            new NamedParameterJdbcTemplate(dataSource),
+            new ProductJdbcProperties(slowQueryThreshold, STATEMENTS)
+        );
+    }
+
+    // 문장에 지정한 타임아웃/fetch size 를 기록하고, forceTimeout 이면 드라이버처럼 SQLTimeoutException 을 던진다.
+    private Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                var result = invoke(connection, method, args);
+                return result instanceof PreparedStatement ps ? recording(ps, (String) args[0]) : result;
+            }
+        );
+    }
+
+    private PreparedStatement recording(PreparedStatement statement, String sql) {
+        var prefix = sql.startsWith("EXPLAIN") ? "explain " : "";
+        return (PreparedStatement) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setQueryTimeout" -> settings.add(prefix + "queryTimeout=" + args[0]);
+                    case "setFetchSize" -> settings.add(prefix + "fetchSize=" + args[0]);
+                    case "executeQuery" -> {
+                        if (forceTimeout) {
+                            throw new SQLTimeoutException("forced timeout");
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                return invoke(statement, method, args);
+            }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class SimpleCacheManagerTest {
+    private final SimpleCacheManager cacheManager = new SimpleCacheManager();
+
+    @Test
+    @DisplayName("같은 키를 동시에 로드하면 로더는 한 번만 실행되고 모두 같은 값을 받는다")
+    void getOrLoad_singleFlight() throws Exception {
+        // given
+        var key = "TEST:SINGLE_FLIGHT";
+        var loadCount = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+
+        // when
+        var results = new ArrayList<Future<Optional<String>>>();
+        for (var i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cacheManager.getOrLoad(key, String.class, () -> {
+                loadCount.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "loaded";
+            })));
+        }
+        // 로드가 끝나기 전에 들어온 호출은 기다리고, 끝난 뒤에 들어온 호출은 캐시된 값을 받는다.
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        // then
+        for (var result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).contains("loaded");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("무효화된 키는 다시 로드되기 전까지 get 으로 조회되지 않는다")
+    void invalidate() {
+        // given
+        var key = "TEST:INVALIDATE";
+        cacheManager.set(key, "before");
+
+        // when
+        cacheManager.invalidate(key);
+
+        // then
+        assertThat(cacheManager.get(key, String.class)).isEmpty();
+        assertThat(cacheManager.getOrLoad(key, String.class, () -> "after")).contains("after");
+        assertThat(cacheManager.get(key, String.class)).contains("after");
+    }
+
+    @Test
+    @DisplayName("캐시에 없던 키를 로드하는 동안 무효화되면 로드한 이전 데이터는 캐시하지 않는다")
+    void getOrLoad_invalidatedWhileColdLoading() {
+        // given
+        var key = "TEST:COLD_LOAD";
+
+        // when
+        // 로더가 커밋 전 데이터를 읽은 뒤, 커밋된 변경이 키를 무효화한다.
+        var loaded = cacheManager.getOrLoad(key, String.class, () -> {
+            cacheManager.invalidate(key);
+            return "before commit";
+        });
+
+        // then
+        assertThat(loaded).contains("before commit");
+        assertThat(cacheManager.get(key, String.class)).isEmpty();
+        assertThat(cacheManager.getOrLoad(key, String.class, () -> "after commit")).contains("after commit");
+        assertThat(cacheManager.get(key, String.class)).contains("after commit");
+    }
+
+    @Test
+    @DisplayName("재계산이 타임아웃되면 무효화 전 값을 내주고 다음 조회 때 다시 계산한다")
+    void getOrLoad_staleIfError() {
+        // given
+        var key = "TEST:STALE_IF_ERROR";
+        cacheManager.set(key, "before");
+        cacheManager.invalidate(key);
+
+        // when
+        var stale = cacheManager.getOrLoad(key, String.class, () -> {
+            throw new QueryTimeoutException("timeout");
+        });
+
+        // then
+        assertThat(stale).contains("before");
+        assertThat(cacheManager.get(key, String.class)).isEmpty();
+        assertThat(cacheManager.getOrLoad(key, String.class, () -> "after")).contains("after");
+    }
+
+    @Test
+    @DisplayName("일시적이지 않은 실패는 무효화 전 값이 있어도 그대로 던진다")
+    void getOrLoad_throwNonTransientError() {
+        // given
+        var key = "TEST:NON_TRANSIENT_ERROR";
+        cacheManager.set(key, "before");
+        cacheManager.invalidate(key);
+
+        // when & then
+        assertThatThrownBy(() -> cacheManager.getOrLoad(key, String.class, () -> {
+            throw new IllegalStateException("bug");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cacheManager.get(key, String.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 쓰기가 있었으면 compareAndSet 은 저장하지 않는다")
+    void compareAndSet() {
+        // given
+        var key = "TEST:COMPARE_AND_SET";
+        cacheManager.set(key, "first");
+        var stamp = cacheManager.getStamped(key, String.class).orElseThrow().stamp();
+
+        // when
+        var replaced = cacheManager.compareAndSet(key, stamp, "second");
+        var replacedAgain = cacheManager.compareAndSet(key, stamp, "third");
+        var current = cacheManager.getStamped(key, String.class).orElseThrow();
+        cacheManager.invalidate(key);
+        var replacedInvalidated = cacheManager.compareAndSet(key, current.stamp(), "fourth");
+
+        // then
+        assertThat(replaced).isTrue();
+        assertThat(replacedAgain).isFalse();
+        assertThat(current.data()).isEqualTo("second");
+        assertThat(replacedInvalidated).isFalse();
+        assertThat(cacheManager.get(key, String.class)).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.application.dto.AddProductDto;
+import com.musinsa.assignment.product.application.dto.UpdateProductDto;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = {
+    "application.search.store=heap"
+})
+class SortedProductSearchIndexIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("상품 변경은 커밋된 뒤에 검색 인덱스에 반영되고, 롤백되면 반영되지 않는다")
+    void updateProduct_afterCommit() {
+        // given
+        var brandId = initBrandData("A", 10000);
+        var productId = productService.addProduct(new AddProductDto(brandId, Category.TOP, 5000));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 1000));
+            assertThat(searchTop()).containsExactly(productId, findProductId(brandId));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(searchTop()).containsExactly(productId, findProductId(brandId));
+        assertThat(productSearchIndex.search(Category.TOP, 0, 1000, false, null, 10)).isEmpty();
+
+        productService.updateProduct(productId, new UpdateProductDto(brandId, Category.TOP, 20000));
+        assertThat(searchTop()).containsExactly(findProductId(brandId), productId);
+    }
+
+    private List<Long> searchTop() {
+        return productSearchIndex.search(Category.TOP, 0, Integer.MAX_VALUE, false, null, 10).stream()
+            .map(Product::getId)
+            .collect(Collectors.toList());
+    }
+
+    private Long findProductId(Long brandId) {
+        return productRepository.findAllByBrandId(brandId).stream()
+            .filter(product -> product.getCategory() == Category.TOP && product.getPrice() == 10000)
+            .findFirst()
+            .orElseThrow()
+            .getId();
+    }
+
+    private Long initBrandData(String name, Integer price) {
+        return productService.addBrand(
+            new AddBrandDto(
+                name,
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, price))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.product.application.contract.ProductSearchIndex.Cursor;
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SortedProductSearchIndexTest {
+
+    @Test
+    @DisplayName("커서를 따라가면 가격 구간 안의 상품을 (가격, id) 순으로 빠짐없이 한 번씩 조회한다")
+    void search_cursor() {
+        // given
+        var searchIndex = new SortedProductSearchIndex();
+        searchIndex.put(new Product(1L, 1L, Category.SHOES, 3000));
+        searchIndex.put(new Product(2L, 1L, Category.SHOES, 1000));
+        searchIndex.put(new Product(3L, 2L, Category.SHOES, 2000));
+        searchIndex.put(new Product(4L, 2L, Category.SHOES, 2000));
+        searchIndex.put(new Product(5L, 3L, Category.SHOES, 9000));
+        searchIndex.put(new Product(6L, 3L, Category.HAT, 1500));
+
+        // when
+        var ascending = searchAll(searchIndex, Category.SHOES, 1000, 3000, false);
+        var descending = searchAll(searchIndex, Category.SHOES, 1000, 3000, true);
+
+        // then
+        assertThat(ascending).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(descending).containsExactly(1L, 4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정한 상품은 새 가격 위치로 옮겨지고, 삭제한 상품은 조회되지 않는다")
+    void putAndRemove() {
+        // given
+        var searchIndex = new SortedProductSearchIndex();
+        searchIndex.put(new Product(1L, 1L, Category.TOP, 1000));
+        searchIndex.put(new Product(2L, 1L, Category.TOP, 2000));
+        searchIndex.put(new Product(3L, 1L, Category.TOP, 3000));
+
+        // when
+        searchIndex.put(new Product(1L, 1L, Category.TOP, 5000));
+        searchIndex.put(new Product(2L, 1L, Category.BAG, 2000));
+        searchIndex.remove(3L);
+
+        // then
+        assertThat(searchAll(searchIndex, Category.TOP, 0, Integer.MAX_VALUE, false)).containsExactly(1L);
+        assertThat(searchIndex.search(Category.BAG, 0, Integer.MAX_VALUE, false, null, 10))
+            .extracting(Product::getId)
+            .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("최저가가 최고가보다 크면 빈 목록을 반환한다")
+    void search_invalidRange() {
+        // given
+        var searchIndex = new SortedProductSearchIndex();
+        searchIndex.put(new Product(1L, 1L, Category.TOP, 1000));
+
+        // when
+        var products = searchIndex.search(Category.TOP, 2000, 1000, false, null, 10);
+
+        // then
+        assertThat(products).isEmpty();
+    }
+
+    private static List<Long> searchAll(SortedProductSearchIndex searchIndex,
+                                        Category category,
+                                        int minPrice,
+                                        int maxPrice,
+                                        boolean descending) {
+        var ids = new ArrayList<Long>();
+        Cursor after = null;
+        while (true) {
+            var page = searchIndex.search(category, minPrice, maxPrice, descending, after, 2);
+            page.forEach(product -> ids.add(product.getId()));
+            if (page.size() < 2) {
+                return ids;
+            }
+            var last = page.get(page.size() - 1);
+            after = new Cursor(last.getPrice(), last.getId());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.musinsa.assignment.product.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TwoTierCacheManagerTest {
+    private CacheNodeServer server;
+    private TwoTierCacheManager first;
+    private TwoTierCacheManager second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new CacheNodeServer("127.0.0.1", 0, 16);
+        server.start();
+        first = new TwoTierCacheManager(new ObjectMapper(), "127.0.0.1", server.port(), 2);
+        second = new TwoTierCacheManager(new ObjectMapper(), "127.0.0.1", server.port(), 2);
+        await(() -> server.subscriberCount() == 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        first.close();
+        second.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스가 lease 를 잡고 계산하는 동안 다른 인스턴스는 계산하지 않고 그 결과를 받는다")
+    void getOrLoad_lease() throws Exception {
+        // given
+        var key = "TEST:LEASE";
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var secondLoads = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(2);
+
+        // when
+        var firstResult = executor.submit(() -> first.getOrLoad(key, String.class, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var secondResult = executor.submit(() -> second.getOrLoad(key, String.class, () -> {
+            secondLoads.incrementAndGet();
+            return "second";
+        }));
+        release.countDown();
+
+        // then
+        assertThat(firstResult.get(5, TimeUnit.SECONDS)).contains("first");
+        assertThat(secondResult.get(5, TimeUnit.SECONDS)).contains("first");
+        assertThat(secondLoads.get()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease 를 잡은 인스턴스의 계산이 실패하면 lease 를 바로 반납해 다른 인스턴스가 기다리지 않고 계산한다")
+    void getOrLoad_releaseLeaseOnFailure() {
+        // given
+        var key = "TEST:RELEASE";
+        assertThatThrownBy(() -> first.getOrLoad(key, String.class, () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        var result = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> second.getOrLoad(key, String.class, () -> "second")
+        );
+
+        // then
+        assertThat(result).contains("second");
+    }
+
+    @Test
+    @DisplayName("L2 에 없던 키를 계산하는 동안 다른 인스턴스가 무효화하면 계산한 이전 데이터는 L1, L2 어디에도 남지 않는다")
+    void getOrLoad_rejectLoadInvalidatedWhileLoading() throws Exception {
+        // given
+        var key = "TEST:INVALIDATED_WHILE_LOADING";
+
+        // when
+        // 커밋 전 데이터를 읽은 뒤, 다른 인스턴스가 커밋하고 키를 무효화한다.
+        var loaded = first.getOrLoad(key, String.class, () -> {
+            second.invalidate(key);
+            return "before commit";
+        });
+
+        // then
+        assertThat(loaded).contains("before commit");
+        assertThat(first.get(key, String.class)).isEmpty();
+        assertThat(second.get(key, String.class)).isEmpty();
+        assertThat(first.getOrLoad(key, String.class, () -> "after commit")).contains("after commit");
+        await(() -> second.get(key, String.class).filter("after commit"::equals).isPresent());
+    }
+
+    @Test
+    @DisplayName("한 인스턴스가 값을 바꾸거나 무효화하면 구독 중인 다른 인스턴스의 L1 도 무효화된다")
+    void subscribe_invalidate() throws Exception {
+        // given
+        var key = "TEST:SUBSCRIBE";
+        first.set(key, "v1");
+        assertThat(second.get(key, String.class)).contains("v1");
+
+        // when & then
+        first.set(key, "v2");
+        await(() -> second.get(key, String.class).filter("v2"::equals).isPresent());
+
+        first.invalidate(key);
+        await(() -> second.get(key, String.class).isEmpty());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
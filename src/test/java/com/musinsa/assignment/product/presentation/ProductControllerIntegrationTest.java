@@ -0,0 +1,106 @@
+package com.musinsa.assignment.product.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.assignment.IntegrationTestContext;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.presentation.util.PrecompressedResponses;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+class ProductControllerIntegrationTest extends IntegrationTestContext {
+    // 통계 조회 경로와 응답 data 에 반드시 있어야 하는 키
+    private static final Map<String, String> AGGREGATE_ENDPOINTS = Map.of(
+        "/v1/products/categories-min-prices", "총액",
+        "/v1/products/brand-min-prices", "최저가",
+        "/v1/products/category-min-max-prices?category=상의", "카테고리"
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        productService.addBrand(
+            new AddBrandDto(
+                "A",
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, 1000))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("Accept 가 없거나 JSON 이면 통계 조회는 JSON 으로 응답한다")
+    void aggregate_json() throws Exception {
+        for (var accept : new String[]{null, "*/*", "application/json", "application/json, application/cbor"}) {
+            for (var endpoint : AGGREGATE_ENDPOINTS.entrySet()) {
+                var data = read(endpoint.getKey(), accept, MediaType.APPLICATION_JSON, new JsonFactory());
+                assertThat(data.has(endpoint.getValue())).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Accept 가 CBOR 이면 통계 조회는 같은 한글 키로 CBOR 로 응답한다")
+    void aggregate_cbor() throws Exception {
+        for (var accept : new String[]{"application/cbor", "application/json;q=0.5, application/cbor", "*/*, application/cbor"}) {
+            for (var endpoint : AGGREGATE_ENDPOINTS.entrySet()) {
+                var data = read(endpoint.getKey(), accept, MediaType.APPLICATION_CBOR, new CBORFactory());
+                assertThat(data.has(endpoint.getValue())).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Accept 가 Smile 이면 통계 조회는 같은 한글 키로 Smile 로 응답하고, q=0 인 형식은 고르지 않는다")
+    void aggregate_smile() throws Exception {
+        for (var accept : new String[]{"application/x-jackson-smile", "application/json;q=0, application/x-jackson-smile;q=0.1"}) {
+            for (var endpoint : AGGREGATE_ENDPOINTS.entrySet()) {
+                var data = read(endpoint.getKey(), accept, PrecompressedResponses.APPLICATION_SMILE, new SmileFactory());
+                assertThat(data.has(endpoint.getValue())).isTrue();
+            }
+        }
+    }
+
+    private JsonNode read(String endpoint, String accept, MediaType expectedType, JsonFactory factory) throws Exception {
+        var request = get(endpoint);
+        if (accept != null) {
+            request.header(HttpHeaders.ACCEPT, accept);
+        }
+
+        var body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.VARY, PrecompressedResponses.VARY))
+            .andExpect(result -> assertThat(MediaType.parseMediaType(result.getResponse().getContentType()).isCompatibleWith(expectedType))
+                .as("%s %s", endpoint, accept)
+                .isTrue())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        var response = new CustomObjectMapper(factory).readTree(body);
+        assertThat(response.get("status").asText()).isEqualTo("SUCCESS");
+        return response.get("data");
+    }
+}
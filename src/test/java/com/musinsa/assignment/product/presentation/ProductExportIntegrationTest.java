@@ -0,0 +1,85 @@
+package com.musinsa.assignment.product.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+// 내보내기는 요청 스레드가 아닌 비동기 스레드에서 DB 를 읽으므로 커밋된 데이터로 검증한다.
+@AutoConfigureMockMvc
+class ProductExportIntegrationTest extends CommittedIntegrationTestContext {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("CSV 내보내기는 헤더 행과 함께 상품을 쓰고, gzip 을 받지 않으면 압축하지 않는다")
+    void exportProducts_csv() throws Exception {
+        // given
+        var brandId = productService.addBrand(new AddBrandDto("A,B", List.of(new AddBrandDto.Product(Category.TOP, 1000))));
+        var productId = productRepository.findAllByBrandId(brandId).get(0).getId();
+
+        // when
+        var result = export("csv", "gzip;q=0, identity");
+
+        // then
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(
+            "상품ID,카테고리,브랜드,가격\n" + productId + ",상의,\"A,B\",1000\n"
+        );
+    }
+
+    @Test
+    @DisplayName("gzip 을 받으면 압축해서 내보내고 Content-Encoding 을 붙인다")
+    void exportProducts_gzip() throws Exception {
+        // given
+        var brandId = productService.addBrand(new AddBrandDto("A", List.of(new AddBrandDto.Product(Category.TOP, 1000))));
+        var productId = productRepository.findAllByBrandId(brandId).get(0).getId();
+
+        // when
+        var result = export("ndjson", "deflate, gzip;q=0.5");
+
+        // then
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(result.getResponse().getContentAsByteArray())).isEqualTo(
+            "{\"상품ID\":" + productId + ",\"카테고리\":\"상의\",\"브랜드\":\"A\",\"가격\":1000}\n"
+        );
+    }
+
+    private MvcResult export(String format, String acceptEncoding) throws Exception {
+        var started = mockMvc.perform(get("/v1/products/export")
+                .param("format", format)
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+            .andReturn();
+    }
+
+    private String gunzip(byte[] compressed) throws IOException {
+        try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
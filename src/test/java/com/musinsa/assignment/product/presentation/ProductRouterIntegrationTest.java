@@ -0,0 +1,88 @@
+package com.musinsa.assignment.product.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.musinsa.assignment.CommittedIntegrationTestContext;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import com.musinsa.assignment.product.application.dto.AddBrandDto;
+import com.musinsa.assignment.product.domain.Product.Category;
+import com.musinsa.assignment.product.presentation.util.PrecompressedResponses;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+// 리액티브 모드의 조회는 요청 스레드가 아닌 곳에서 DB 를 읽을 수 있으므로 커밋된 데이터로 검증한다.
+@AutoConfigureWebTestClient
+@TestPropertySource(properties = {
+    "spring.main.web-application-type=reactive"
+})
+class ProductRouterIntegrationTest extends CommittedIntegrationTestContext {
+    private static final Map<String, String> AGGREGATE_ENDPOINTS = Map.of(
+        "/v1/products/categories-min-prices", "총액",
+        "/v1/products/brand-min-prices", "최저가",
+        "/v1/products/category-min-max-prices?category=상의", "카테고리"
+    );
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        productService.addBrand(
+            new AddBrandDto(
+                "A",
+                Arrays.stream(Category.values())
+                    .map(category -> new AddBrandDto.Product(category, 1000))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    @DisplayName("리액티브 모드에서도 통계 조회는 Accept 에 따라 JSON/CBOR/Smile 로 같은 한글 키를 응답한다")
+    void aggregate_contentNegotiation() throws IOException {
+        var cases = Map.of(
+            MediaType.APPLICATION_JSON, new JsonFactory(),
+            MediaType.APPLICATION_CBOR, new CBORFactory(),
+            PrecompressedResponses.APPLICATION_SMILE, new SmileFactory()
+        );
+
+        for (var mediaType : cases.entrySet()) {
+            for (var endpoint : AGGREGATE_ENDPOINTS.entrySet()) {
+                var data = read(endpoint.getKey(), mediaType.getKey(), mediaType.getValue());
+                assertThat(data.has(endpoint.getValue())).as("%s %s", endpoint.getKey(), mediaType.getKey()).isTrue();
+            }
+        }
+    }
+
+    private JsonNode read(String endpoint, MediaType mediaType, JsonFactory factory) throws IOException {
+        var body = webTestClient.get()
+            .uri(endpoint)
+            .header(HttpHeaders.ACCEPT, mediaType.toString())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(mediaType)
+            .expectHeader().valueEquals(HttpHeaders.VARY, PrecompressedResponses.VARY)
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+        var response = new CustomObjectMapper(factory).readTree(body);
+        assertThat(response.get("status").asText()).isEqualTo("SUCCESS");
+        return response.get("data");
+    }
+}
@@ -0,0 +1,37 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AcceptEncodingTest {
+
+    @Test
+    @DisplayName("목록에 있고 q 가 0 보다 크면 받는다")
+    void accepts() {
+        assertThat(AcceptEncoding.accepts("gzip", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("deflate, GZIP;q=0.5", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("x-gzip", "gzip")).isTrue();
+    }
+
+    @Test
+    @DisplayName("q=0 이거나 목록에 없으면 받지 않는다")
+    void rejects() {
+        assertThat(AcceptEncoding.accepts("gzip;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip ; q=0.0, identity", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("deflate", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("br, x-gzipped", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts(null, "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("", "gzip")).isFalse();
+    }
+
+    @Test
+    @DisplayName("목록에 없는 coding 은 * 의 q 값을 따르고, 명시된 coding 이 * 보다 우선한다")
+    void wildcard() {
+        assertThat(AcceptEncoding.accepts("*", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("*;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("*;q=0, gzip", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("gzip;q=0, *", "gzip")).isFalse();
+    }
+}
@@ -0,0 +1,153 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.musinsa.assignment.common.support.CustomObjectMapper;
+import com.musinsa.assignment.common.web.ApiResponse;
+import com.musinsa.assignment.product.infra.SimpleCacheManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+class PrecompressedResponsesTest {
+    private final CustomObjectMapper objectMapper = new CustomObjectMapper();
+    private final SimpleCacheManager cacheManager = new SimpleCacheManager();
+    private final PrecompressedResponses precompressedResponses = new PrecompressedResponses(objectMapper, cacheManager);
+
+    @Test
+    @DisplayName("identity/gzip/deflate 본문은 같은 JSON 으로 풀리고, 요청 때 받은 serverDatetime 이 들어간다")
+    void encode() throws IOException {
+        // given
+        var response = response(new AtomicInteger());
+
+        // when
+        var identity = precompressedResponses.encode("test", null, response, "2000-01-01T00:00:00+0900");
+        var gzip = precompressedResponses.encode("test", "gzip", response, "2000-01-01T00:00:01+0900");
+        var deflate = precompressedResponses.encode("test", "deflate", response, "2000-01-01T00:00:02+0900");
+
+        // then
+        assertThat(identity.contentEncoding()).isNull();
+        assertThat(gzip.contentEncoding()).isEqualTo("gzip");
+        assertThat(deflate.contentEncoding()).isEqualTo("deflate");
+
+        var identityJson = objectMapper.readTree(identity.body());
+        var gzipJson = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(gzip.body())).readAllBytes());
+        var deflateJson = objectMapper.readTree(new InflaterInputStream(new ByteArrayInputStream(deflate.body())).readAllBytes());
+        assertThat(identityJson.get("serverDatetime").asText()).isEqualTo("2000-01-01T00:00:00+0900");
+        assertThat(gzipJson.get("serverDatetime").asText()).isEqualTo("2000-01-01T00:00:01+0900");
+        assertThat(deflateJson.get("serverDatetime").asText()).isEqualTo("2000-01-01T00:00:02+0900");
+        assertThat(withoutServerDatetime(gzipJson)).isEqualTo(withoutServerDatetime(identityJson));
+        assertThat(withoutServerDatetime(deflateJson)).isEqualTo(withoutServerDatetime(identityJson));
+        assertThat(identityJson.get("data").get("가격").size()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("캐시 버전이 바뀔 때만 응답을 다시 직렬화한다")
+    void encode_serializeOncePerVersion() {
+        // given
+        var serialized = new AtomicInteger();
+        var response = response(serialized);
+
+        // when
+        precompressedResponses.encode("test", "gzip", response, "2000-01-01T00:00:00+0900");
+        precompressedResponses.encode("test", "gzip", response, "2000-01-01T00:00:05+0900");
+        precompressedResponses.encode("test", null, response, "2000-01-01T00:00:09+0900");
+        var serializedBeforeInvalidate = serialized.get();
+        cacheManager.invalidate("CATEGORY:MIN:TOP");
+        precompressedResponses.encode("test", null, response, "2000-01-01T00:00:10+0900");
+
+        // then
+        assertThat(serializedBeforeInvalidate).isEqualTo(1);
+        assertThat(serialized.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 serverDatetime 의 요청은 만들어 둔 본문을 그대로 쓰고, 시각이 바뀌면 새로 만든다")
+    void encode_reuseSameServerDatetime() throws IOException {
+        // given
+        var response = response(new AtomicInteger());
+        var first = precompressedResponses.encode("test", "gzip", response, "2000-01-01T00:00:00+0900");
+
+        // when
+        var sameSecond = precompressedResponses.encode("test", "gzip", response, "2000-01-01T00:00:00+0900");
+        var nextSecond = precompressedResponses.encode("test", "gzip", response, "2000-01-01T00:00:01+0900");
+
+        // then
+        assertThat(sameSecond.body()).isSameAs(first.body());
+        assertThat(nextSecond.body()).isNotSameAs(first.body());
+        var nextSecondJson = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(nextSecond.body())).readAllBytes());
+        assertThat(nextSecondJson.get("serverDatetime").asText()).isEqualTo("2000-01-01T00:00:01+0900");
+    }
+
+    @Test
+    @DisplayName("현재 캐시 버전의 본문이 만들어져 있을 때만 준비된 것으로 본다")
+    void isPrepared() {
+        // given
+        var response = response(new AtomicInteger());
+
+        // when & then
+        assertThat(precompressedResponses.isPrepared("test")).isFalse();
+        precompressedResponses.encode("test", null, response);
+        assertThat(precompressedResponses.isPrepared("test")).isTrue();
+        cacheManager.invalidate("BRAND:MIN");
+        assertThat(precompressedResponses.isPrepared("test")).isFalse();
+    }
+
+    @Test
+    @DisplayName("q=0 으로 거부한 인코딩은 쓰지 않는다")
+    void encode_acceptEncodingQuality() {
+        // given
+        var response = response(new AtomicInteger());
+
+        // when & then
+        assertThat(precompressedResponses.encode("test", "gzip;q=0, deflate", response).contentEncoding()).isEqualTo("deflate");
+        assertThat(precompressedResponses.encode("test", "gzip;q=0, deflate;q=0", response).contentEncoding()).isNull();
+        assertThat(precompressedResponses.encode("test", "*;q=0", response).contentEncoding()).isNull();
+        assertThat(precompressedResponses.encode("test", "*", response).contentEncoding()).isEqualTo("gzip");
+    }
+
+    @Test
+    @DisplayName("JSON 과 CBOR 응답 모두 Vary 에 Accept 와 Accept-Encoding 을 담는다")
+    void respond_vary() {
+        // given
+        var response = response(new AtomicInteger());
+
+        // when
+        var json = precompressedResponses.respond("test", null, "gzip;q=0", response);
+        var cbor = precompressedResponses.respond("test", "application/cbor", "gzip", response);
+
+        // then
+        assertThat(json.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(json.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(json.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo("Accept, Accept-Encoding");
+        assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cbor.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo("Accept, Accept-Encoding");
+    }
+
+    private Supplier<ApiResponse<?>> response(AtomicInteger serialized) {
+        return () -> {
+            serialized.incrementAndGet();
+            return ApiResponse.success(
+                Map.of("가격", IntStream.range(0, 1000).boxed().collect(Collectors.toList()))
+            );
+        };
+    }
+
+    private JsonNode withoutServerDatetime(JsonNode json) {
+        var copy = (ObjectNode) json.deepCopy();
+        copy.remove("serverDatetime");
+        return copy;
+    }
+}
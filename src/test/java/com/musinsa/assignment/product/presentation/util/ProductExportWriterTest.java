@@ -0,0 +1,71 @@
+package com.musinsa.assignment.product.presentation.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.assignment.product.domain.Product;
+import com.musinsa.assignment.product.domain.Product.Category;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductExportWriterTest {
+
+    @Test
+    @DisplayName("CSV 는 헤더 행을 먼저 쓰고, 쉼표/따옴표/줄바꿈이 들어간 브랜드 이름은 따옴표로 감싼다")
+    void csv() throws IOException {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+
+        // when
+        try (var writer = ProductExportWriter.csv(outputStream)) {
+            writer.write(new Product(1L, 1L, Category.TOP, 1000), "A");
+            writer.write(new Product(2L, 2L, Category.TOP, 2000), "B,C");
+            writer.write(new Product(3L, 3L, Category.TOP, 3000), "D\"E");
+            writer.write(new Product(4L, 4L, Category.TOP, 4000), "F\rG");
+        }
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "상품ID,카테고리,브랜드,가격\n"
+                + "1,상의,A,1000\n"
+                + "2,상의,\"B,C\",2000\n"
+                + "3,상의,\"D\"\"E\",3000\n"
+                + "4,상의,\"F\rG\",4000\n"
+        );
+    }
+
+    @Test
+    @DisplayName("상품이 없어도 CSV 헤더 행은 쓴다")
+    void csv_empty() throws IOException {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+
+        // when
+        try (var writer = ProductExportWriter.csv(outputStream)) {
+        }
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("상품ID,카테고리,브랜드,가격\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 상품마다 한 줄의 JSON 객체를 쓴다")
+    void ndjson() throws IOException {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+
+        // when
+        try (var writer = ProductExportWriter.ndjson(outputStream)) {
+            writer.write(new Product(1L, 1L, Category.TOP, 1000), "A");
+            writer.write(new Product(2L, 2L, Category.TOP, 2000), "B\"C");
+        }
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "{\"상품ID\":1,\"카테고리\":\"상의\",\"브랜드\":\"A\",\"가격\":1000}\n"
+                + "{\"상품ID\":2,\"카테고리\":\"상의\",\"브랜드\":\"B\\\"C\",\"가격\":2000}\n"
+        );
+    }
+}